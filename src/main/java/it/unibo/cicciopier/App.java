@@ -2,6 +2,7 @@ package it.unibo.cicciopier;
 
 import it.unibo.cicciopier.controller.GameLoader;
 import it.unibo.cicciopier.controller.menu.MainMenuController;
+import it.unibo.cicciopier.model.settings.ActiveRendering;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
  */
 public final class App {
     private static final Logger LOGGER = LoggerFactory.getLogger(App.class);
+    private static final String ACTIVE_RENDERING_ARG = "--active-rendering";
 
     /**
      * Start method of this application
@@ -17,6 +19,11 @@ public final class App {
      * @param args parameters given when the game has been started
      */
     public static void main(final String[] args) {
+        for (final String arg : args) {
+            if (ACTIVE_RENDERING_ARG.equals(arg)) {
+                ActiveRendering.setActive(true);
+            }
+        }
         try {
             LOGGER.error("Starting the game...");
             new GameLoader().load();
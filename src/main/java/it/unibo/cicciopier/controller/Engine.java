@@ -46,6 +46,36 @@ public interface Engine {
      */
     void update();
 
+    /**
+     * Render the game one time.
+     * Used in render loop, once per frame.
+     */
+    void render();
+
+    /**
+     * Get the fraction of tick elapsed since the last update.
+     * Used by the view to interpolate the game objects between two ticks.
+     *
+     * @return the partial ticks, between 0 and 1
+     */
+    double getPartialTicks();
+
+    /**
+     * Get how fast the game runs.
+     *
+     * @return the number of ticks updated in the time of a tick at normal speed
+     */
+    double getTimeScale();
+
+    /**
+     * Set how fast the game runs, ticks stay the same so the game behaves the same at every speed.
+     *
+     * @param timeScale the number of ticks updated in the time of a tick at normal speed,
+     *                  {@link GameLoop#UNCAPPED} to update them as fast as possible
+     * @throws IllegalArgumentException if the time scale is NaN or infinite but not {@link GameLoop#UNCAPPED}
+     */
+    void setTimeScale(final double timeScale);
+
     /**
      * Get the number of ticks updated from the game start.
      *
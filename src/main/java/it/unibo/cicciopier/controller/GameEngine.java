@@ -3,17 +3,20 @@ package it.unibo.cicciopier.controller;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerState;
 import it.unibo.cicciopier.controller.menu.MenuController;
-import it.unibo.cicciopier.model.GameWorld;
 import it.unibo.cicciopier.model.Level;
 import it.unibo.cicciopier.model.Music;
+import it.unibo.cicciopier.model.Sound;
 import it.unibo.cicciopier.model.World;
-import it.unibo.cicciopier.model.entities.base.Entity;
-import it.unibo.cicciopier.model.entities.enemies.boss.Boss;
+import it.unibo.cicciopier.model.events.GameEvent;
 import it.unibo.cicciopier.view.GameView;
 import it.unibo.cicciopier.view.View;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 
 /**
@@ -21,20 +24,25 @@ import java.util.Optional;
  */
 public final class GameEngine implements Engine {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameEngine.class);
+    /**
+     * System property with the file where the game is recorded, games are not recorded if it's missing.
+     */
+    public static final String REPLAY_PROPERTY = "cicciopier.replay";
+    /**
+     * System property with the initial time scale of the game, a number or "uncapped".
+     */
+    public static final String TIME_SCALE_PROPERTY = "cicciopier.timescale";
     private final MenuController menu;
     private final Level level;
-    private final InputController input;
+    private final GameSimulation simulation;
     private final ControllerManager controllers;
-    private final WorldLoader loader;
-    private final World world;
     private final View view;
-    private final Loop loop;
-    private GameState state;
+    private final GameLoop loop;
+    private final Loop renderLoop;
     private Music music;
-    private long ticks;
 
     /**
-     * Constructor for this class, it instantiates world, world loader, view, loop and game state.
+     * Constructor for this class, it instantiates simulation, view and loops.
      *
      * @param menu  the menu instance
      * @param level the level to play
@@ -42,14 +50,12 @@ public final class GameEngine implements Engine {
     public GameEngine(final MenuController menu, final Level level) {
         this.menu = menu;
         this.level = level;
-        this.input = new InputController();
+        this.simulation = new GameSimulation(level);
         this.controllers = new ControllerManager();
-        this.world = new GameWorld();
-        this.loader = new TmxWorldLoader(this.getWorld(), this.level.getFileName());
+        this.registerEvents();
         this.view = new GameView(this);
         this.loop = new GameLoop(this);
-        this.state = GameState.LOADING;
-        this.ticks = 0;
+        this.renderLoop = new RenderLoop(this);
     }
 
     /**
@@ -58,7 +64,7 @@ public final class GameEngine implements Engine {
     @Override
     public void load() throws Exception {
         LOGGER.info("Loading game...");
-        this.getWorldLoader().load();
+        this.simulation.load();
         this.view.load();
         // Get sound
         try {
@@ -76,9 +82,11 @@ public final class GameEngine implements Engine {
     @Override
     public synchronized void start() {
         LOGGER.info("Starting game...");
-        this.getWorldLoader().create();
-        this.state = GameState.RUNNING;
+        this.simulation.setRecording(System.getProperty(REPLAY_PROPERTY) != null);
+        this.simulation.create();
+        this.readTimeScale();
         this.getLoop().startLoop();
+        this.renderLoop.startLoop();
         this.view.start();
     }
 
@@ -87,12 +95,12 @@ public final class GameEngine implements Engine {
      */
     @Override
     public synchronized void pause() {
-        if (this.state == GameState.RUNNING) {
+        if (this.getState() == GameState.RUNNING) {
             LOGGER.info("Pausing game...");
-            this.state = GameState.PAUSED;
-        } else if (this.state == GameState.PAUSED) {
+            this.simulation.setState(GameState.PAUSED);
+        } else if (this.getState() == GameState.PAUSED) {
             LOGGER.info("Resuming game...");
-            this.state = GameState.RUNNING;
+            this.simulation.setState(GameState.RUNNING);
         }
     }
 
@@ -102,10 +110,8 @@ public final class GameEngine implements Engine {
     @Override
     public synchronized void restart() {
         LOGGER.info("Restarting game...");
-        this.getWorldLoader().create();
+        this.simulation.create();
         this.getMusic().ifPresent(m -> AudioController.getInstance().restartMusic());
-        this.state = GameState.RUNNING;
-        this.ticks = 0;
     }
 
     /**
@@ -115,6 +121,8 @@ public final class GameEngine implements Engine {
     public synchronized void stop() {
         LOGGER.info("Stopping game...");
         this.getLoop().stopLoop();
+        this.renderLoop.stopLoop();
+        this.simulation.getReplay().ifPresent(this::saveReplay);
         this.menu.endOfLevel(this.getWorld().getPlayer().getScore(), this.getState(), this.getLevel());
     }
 
@@ -123,62 +131,85 @@ public final class GameEngine implements Engine {
      */
     @Override
     public void update() {
-        if (this.getState() == GameState.RUNNING) {
-            // check if player is dead
-            if (this.getWorld().getPlayer().isDead()) {
-                this.state = GameState.OVER;
-                return;
-            }
-            // check if player has won
-            if (this.getWorld().getPlayer().hasWon()) {
-                this.state = GameState.WON;
-                return;
-            }
-            // check if the player killed the boss
-            this.getWorld().getEntities().stream()
-                    .filter(Entity::isRemoved)
-                    .filter(Boss.class::isInstance)
-                    .findFirst()
-                    .ifPresent(e -> this.getWorld().getPlayer().win());
-            // remove entities marked as removed
-            this.getWorld().getEntities().stream()
-                    .filter(Entity::isRemoved)
-                    .forEach(this.getWorld()::removeEntity);
-            // update every entity
-            this.getWorld().getEntities().forEach(e -> e.tick(this.ticks));
-            // update player
-            this.getWorld().getPlayer().tick(this.ticks);
-            // process keyboard
-            this.processInput();
-            // update ticks
-            this.ticks++;
-        }
-        // process controllers
+        // process controllers, before the tick that uses their input
         this.processControllers();
-        // update view
+        // update the world and process the input
+        this.simulation.tick();
+        // publish the tick to the view
+        this.view.update();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render() {
         this.view.render();
     }
 
     /**
-     * Process the input from keyboard.
+     * {@inheritDoc}
      */
-    private void processInput() {
-        int velX = 0;
-        // Handle movements
-        if (this.getInput().isPressed(Input.RIGHT)) {
-            velX += this.getWorld().getPlayer().getSpeed();
+    @Override
+    public double getPartialTicks() {
+        // while the game is not running positions don't change between ticks
+        if (this.getState() != GameState.RUNNING) {
+            return 1;
         }
-        if (this.getInput().isPressed(Input.LEFT)) {
-            velX -= this.getWorld().getPlayer().getSpeed();
+        return this.loop.getPartialTicks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTimeScale() {
+        return this.loop.getTimeScale();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTimeScale(final double timeScale) {
+        this.loop.setTimeScale(timeScale);
+    }
+
+    /**
+     * Set the time scale from {@link #TIME_SCALE_PROPERTY}, if present.
+     */
+    private void readTimeScale() {
+        final String value = System.getProperty(TIME_SCALE_PROPERTY);
+        if (value == null) {
+            return;
         }
-        this.getWorld().getPlayer().getVel().setX(velX);
-        // Handle jump
-        if (this.getInput().isPressed(Input.JUMP)) {
-            this.getWorld().getPlayer().jump();
+        try {
+            this.setTimeScale("uncapped".equalsIgnoreCase(value) ? GameLoop.UNCAPPED : Double.parseDouble(value));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid time scale {}, ignoring it...", value);
         }
-        // Handle attack
-        if (this.getInput().isPressed(Input.ATTACK)) {
-            this.getWorld().getPlayer().attackNearest();
+    }
+
+    /**
+     * Register the reactions of the engine to the events of the world, the game ones are in the simulation.
+     */
+    private void registerEvents() {
+        this.getWorld().getEventBus().register(GameEvent.PLAYER_DAMAGED,
+                (e, value) -> AudioController.getInstance().playSound(Sound.DAMAGE));
+    }
+
+    /**
+     * Save the recording of the game in the file of {@link #REPLAY_PROPERTY}.
+     *
+     * @param replay the recording
+     */
+    private void saveReplay(final Replay replay) {
+        final String file = System.getProperty(REPLAY_PROPERTY);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            replay.write(out);
+            LOGGER.info("Saved replay of {} ticks in {}", replay.getTicks(), file);
+        } catch (IOException e) {
+            LOGGER.error("Error saving replay in {}!", file, e);
         }
     }
 
@@ -188,27 +219,27 @@ public final class GameEngine implements Engine {
     private void processControllers() {
         final ControllerState state = this.controllers.getState(0);
         if (!state.isConnected) {
+            this.getInput().setGamepad(0);
             return;
         }
-        if (this.getState() == GameState.RUNNING) {
-            int velX = 0;
-            // Handle movements
-            if (state.dpadRight || state.leftStickX > 0.5) {
-                velX += this.getWorld().getPlayer().getSpeed();
-            }
-            if (state.dpadLeft || state.leftStickX < -0.5) {
-                velX -= this.getWorld().getPlayer().getSpeed();
-            }
-            this.getWorld().getPlayer().getVel().setX(velX);
-            // Handle jump
-            if (state.a) {
-                this.getWorld().getPlayer().jump();
-            }
-            // Handle attack
-            if (state.x) {
-                this.getWorld().getPlayer().attackNearest();
-            }
+        // gamepad inputs go through the simulation like the keyboard ones, so they're recorded too
+        int mask = 0;
+        // Handle movements
+        if (state.dpadRight || state.leftStickX > 0.5) {
+            mask |= Input.RIGHT.getBit();
+        }
+        if (state.dpadLeft || state.leftStickX < -0.5) {
+            mask |= Input.LEFT.getBit();
+        }
+        // Handle jump
+        if (state.a) {
+            mask |= Input.JUMP.getBit();
+        }
+        // Handle attack
+        if (state.x) {
+            mask |= Input.ATTACK.getBit();
         }
+        this.getInput().setGamepad(mask);
         // Press Start to enter and exit paused menu
         if (state.startJustPressed) {
             this.pause();
@@ -233,7 +264,7 @@ public final class GameEngine implements Engine {
      */
     @Override
     public long getTicks() {
-        return this.ticks;
+        return this.simulation.getTicks();
     }
 
     /**
@@ -267,7 +298,7 @@ public final class GameEngine implements Engine {
      */
     @Override
     public GameState getState() {
-        return this.state;
+        return this.simulation.getState();
     }
 
     /**
@@ -275,7 +306,7 @@ public final class GameEngine implements Engine {
      */
     @Override
     public InputController getInput() {
-        return this.input;
+        return this.simulation.getInput();
     }
 
     /**
@@ -283,7 +314,7 @@ public final class GameEngine implements Engine {
      */
     @Override
     public WorldLoader getWorldLoader() {
-        return this.loader;
+        return this.simulation.getWorldLoader();
     }
 
     /**
@@ -291,7 +322,7 @@ public final class GameEngine implements Engine {
      */
     @Override
     public World getWorld() {
-        return this.world;
+        return this.simulation.getWorld();
     }
 
     /**
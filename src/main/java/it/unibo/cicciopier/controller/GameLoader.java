@@ -90,14 +90,17 @@ public final class GameLoader {
      * Load all the textures
      */
     private void loadTextures() {
+        long bytes = 0;
         for (final Texture texture : Texture.values()) {
             try {
                 texture.load();
+                bytes += texture.getBytes();
             } catch (IOException e) {
                 LOGGER.error("Error loading texture...", e);
                 System.exit(1);
             }
         }
+        LOGGER.info("Loaded {} textures, {} KB", Texture.values().length, bytes / 1024);
     }
 
     /**
@@ -3,8 +3,14 @@ package it.unibo.cicciopier.controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Simple implementation of the interface {@link Loop}.
+ * Runs the game with a fixed timestep: elapsed time is accumulated with {@link System#nanoTime()}
+ * and consumed in ticks of {@link #TICK_NANOS}, rendering is done by the {@link RenderLoop}.
+ * Elapsed time is multiplied by the time scale, so the game runs faster or slower
+ * with the same number of ticks for everything, the render loop draws only the latest tick.
  */
 public final class GameLoop extends Thread implements Loop {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameLoop.class);
@@ -13,12 +19,39 @@ public final class GameLoop extends Thread implements Loop {
      */
     public static final int TPS = 60;
     /**
-     * Duration of a single tick in millis.
+     * Duration of a single tick in nanos.
+     */
+    public static final long TICK_NANOS = 1_000_000_000L / TPS;
+    /**
+     * Time scale that updates the ticks one after another, as fast as the CPU allows.
+     */
+    public static final double UNCAPPED = Double.POSITIVE_INFINITY;
+    /**
+     * Lowest time scale.
+     */
+    public static final double MIN_TIME_SCALE = 0.125;
+    /**
+     * Highest time scale before {@link #UNCAPPED}.
+     */
+    public static final double MAX_TIME_SCALE = 8;
+    /**
+     * Max number of ticks updated in a single frame when the loop falls behind, at normal speed.
+     */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    /**
+     * Time left before a tick that is always spent spinning, in nanos.
      */
-    private static final int LAPSE = 1_000 / TPS;
+    private static final long MIN_SPIN_NANOS = 500_000L;
+    /**
+     * Upper bound for the time spent spinning before a tick, in nanos.
+     */
+    private static final long MAX_SPIN_NANOS = 4_000_000L;
 
     private final Engine engine;
-    private boolean running;
+    private volatile boolean running;
+    private volatile long lastTickTime;
+    private volatile double timeScale;
+    private long spinNanos;
 
     /**
      * Constructor for this class.
@@ -28,6 +61,9 @@ public final class GameLoop extends Thread implements Loop {
     public GameLoop(final Engine engine) {
         super("Game Thread");
         this.engine = engine;
+        this.spinNanos = MAX_SPIN_NANOS;
+        this.lastTickTime = System.nanoTime();
+        this.timeScale = 1;
     }
 
     /**
@@ -44,30 +80,105 @@ public final class GameLoop extends Thread implements Loop {
      */
     @Override
     public void run() {
-        long lastLoopTime = 0;
-        long deltaTime;
+        long lastLoopTime = System.nanoTime();
+        long accumulator = 0;
         while (this.running) {
-            // Get delta time
-            deltaTime = System.currentTimeMillis() - lastLoopTime;
-            if (deltaTime < LAPSE) {
-                while (deltaTime < LAPSE) {
-                    // Yield until it has been at least the target time between updates. This saves the CPU from hogging.
-                    Thread.yield();
-                    try {
-                        Thread.sleep(1);
-                    } catch (Exception e) {
-                        // do nothing
-                    }
-                    deltaTime = System.currentTimeMillis() - lastLoopTime;
-                }
-            } else if (lastLoopTime != 0 && deltaTime > LAPSE) {
-                final long behind = deltaTime - LAPSE;
-                LOGGER.warn("Can't keep up! Did the system time change, or is the game overloaded? Running {}ms behind, skipping {} tick(s)", behind, behind / TPS);
-            }
-            lastLoopTime = System.currentTimeMillis();
-            if (this.engine.getState() != GameState.LOADING) {
+            final long now = System.nanoTime();
+            final double scale = this.timeScale;
+            if (scale == UNCAPPED && this.engine.getState() == GameState.RUNNING) {
+                // no waiting, the next tick starts as soon as this one is done
                 this.engine.update();
+                accumulator = 0;
+                lastLoopTime = now;
+                this.lastTickTime = System.nanoTime();
+                continue;
+            }
+            // time of the game, not of the wall clock, uncapped is paced at the max speed while not running
+            final double gameScale = Math.min(scale, MAX_TIME_SCALE);
+            accumulator += (long) ((now - lastLoopTime) * gameScale);
+            lastLoopTime = now;
+            if (this.engine.getState() == GameState.LOADING) {
+                accumulator = 0;
+            } else {
+                final int maxTicks = (int) Math.ceil(MAX_CATCH_UP_TICKS * Math.max(1, gameScale));
+                int ticks = 0;
+                while (accumulator >= TICK_NANOS && ticks < maxTicks) {
+                    this.engine.update();
+                    accumulator -= TICK_NANOS;
+                    ticks++;
+                }
+                if (accumulator >= TICK_NANOS) {
+                    LOGGER.warn("Can't keep up! Did the system time change, or is the game overloaded? Running {}ms behind, skipping {} tick(s)",
+                            accumulator / 1_000_000, accumulator / TICK_NANOS);
+                    accumulator %= TICK_NANOS;
+                }
             }
+            this.lastTickTime = now - (long) (accumulator / gameScale);
+            this.waitUntil(now + (long) ((TICK_NANOS - accumulator) / gameScale));
+        }
+    }
+
+    /**
+     * Get the fraction of tick elapsed since the last one was updated.
+     *
+     * @return the partial ticks, between 0 and 1
+     */
+    public double getPartialTicks() {
+        final double scale = this.timeScale;
+        // uncapped ticks are too fast to be interpolated, the latest one is drawn
+        if (scale == UNCAPPED) {
+            return 1;
+        }
+        final double partialTicks = (System.nanoTime() - this.lastTickTime) * scale / TICK_NANOS;
+        return Math.max(0, Math.min(1, partialTicks));
+    }
+
+    /**
+     * Get the time scale.
+     *
+     * @return the number of ticks updated in the time of a tick at normal speed
+     */
+    public double getTimeScale() {
+        return this.timeScale;
+    }
+
+    /**
+     * Set the time scale, clamped between {@link #MIN_TIME_SCALE} and {@link #MAX_TIME_SCALE},
+     * or {@link #UNCAPPED}.
+     *
+     * @param timeScale the number of ticks updated in the time of a tick at normal speed
+     * @throws IllegalArgumentException if the time scale is NaN or infinite but not {@link #UNCAPPED}
+     */
+    public void setTimeScale(final double timeScale) {
+        if (timeScale != UNCAPPED && !Double.isFinite(timeScale)) {
+            throw new IllegalArgumentException("Invalid time scale " + timeScale);
+        }
+        this.timeScale = timeScale == UNCAPPED ? UNCAPPED : Math.max(MIN_TIME_SCALE, Math.min(MAX_TIME_SCALE, timeScale));
+        LOGGER.info("Time scale set to {}", this.timeScale);
+    }
+
+    /**
+     * Wait until the given time is reached.
+     * Parks the thread for most of the time, spinning only for the last part, whose length
+     * adapts to how much the OS oversleeps, so the precision of the timer doesn't matter.
+     *
+     * @param deadline the time to reach, compared with {@link System#nanoTime()}
+     */
+    private void waitUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > this.spinNanos) {
+            final long parkNanos = remaining - this.spinNanos;
+            final long parkStart = System.nanoTime();
+            LockSupport.parkNanos(parkNanos);
+            final long overslept = System.nanoTime() - parkStart - parkNanos;
+            // moving average of the park overshoot, doubled to keep a safety margin
+            final long target = Math.max(MIN_SPIN_NANOS, Math.min(MAX_SPIN_NANOS, 2 * overslept));
+            this.spinNanos += (target - this.spinNanos) / 8;
+            remaining = deadline - System.nanoTime();
+        }
+        while (remaining > 0) {
+            Thread.onSpinWait();
+            remaining = deadline - System.nanoTime();
         }
     }
 
@@ -0,0 +1,303 @@
+package it.unibo.cicciopier.controller;
+
+import it.unibo.cicciopier.model.GameWorld;
+import it.unibo.cicciopier.model.Level;
+import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.entities.Player;
+import it.unibo.cicciopier.model.entities.base.Activation;
+import it.unibo.cicciopier.model.entities.base.Entity;
+import it.unibo.cicciopier.model.entities.enemies.boss.Boss;
+import it.unibo.cicciopier.model.events.EventBus;
+import it.unibo.cicciopier.model.events.GameEvent;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Simulation of a level, the {@link World} with its loader, the keyboard input and the game state.
+ * Knows nothing about view, audio and gamepads, so it's shared by the {@link GameEngine}
+ * and the {@link HeadlessEngine}.
+ */
+public final class GameSimulation {
+    private final Level level;
+    private final InputController input;
+    private final World world;
+    private final WorldLoader loader;
+    private GameState state;
+    private long ticks;
+    private boolean recording;
+    private boolean parallel;
+    private Replay replay;
+
+    /**
+     * Constructor for this class, it instantiates world and world loader.
+     *
+     * @param level the level to simulate
+     */
+    public GameSimulation(final Level level) {
+        this.level = level;
+        this.input = new InputController();
+        this.world = new GameWorld();
+        this.registerEvents();
+        this.loader = new TmxWorldLoader(this.world, level.getFileName());
+        this.state = GameState.LOADING;
+        this.ticks = 0;
+        this.recording = false;
+        this.parallel = true;
+    }
+
+    /**
+     * Read the level file.
+     *
+     * @throws Exception if the file is invalid or doesn't exist
+     */
+    public void load() throws Exception {
+        this.loader.load();
+    }
+
+    /**
+     * Populate the world from the level with a new seed and start running it from the first tick.
+     * Must be called after {@link #load()}, also to restart the level.
+     */
+    public void create() {
+        this.create(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Populate the world from the level and start running it from the first tick,
+     * the same seed and the same input give the same game.
+     * Must be called after {@link #load()}, also to restart the level.
+     *
+     * @param seed the seed of the random of the world
+     */
+    public void create(final long seed) {
+        this.world.setSeed(seed);
+        this.loader.create();
+        this.state = GameState.RUNNING;
+        this.ticks = 0;
+        this.replay = this.recording ? new Replay(this.level.getFileName(), seed) : null;
+    }
+
+    /**
+     * Update the world by a tick, if it's running.
+     */
+    public void tick() {
+        if (this.state != GameState.RUNNING) {
+            return;
+        }
+        // blocks and entities of the chunks around the player, on streamed levels
+        this.world.streamChunks(this.world.getPlayer().getPos().getDoubleX());
+        // spawned and removed entities are applied at the end of the tick
+        this.world.beginUpdate();
+        // entities far from the player, so from the screen, are updated less often or not at all,
+        // on streamed levels the ones next to a chunk not loaded sleep too, its tiles would read as air
+        final Player player = this.world.getPlayer();
+        final double center = player.getPos().getDoubleX() + player.getWidth() / 2d;
+        // projectiles live while they can be seen, the view stops at the borders of the level
+        final double viewLeft = Activation.getViewLeft(center, this.world.getWidth() * Block.SIZE);
+        // think phase, entities only read the world and write themselves, in parallel on large levels
+        final long tick = this.ticks;
+        final Consumer<Entity> think = e -> {
+            final double minX = e.getPos().getDoubleX();
+            final double maxX = minX + e.getWidth();
+            final double distance = e.getType().isCulled()
+                    ? Activation.getViewDistance(minX, maxX, viewLeft)
+                    : Math.abs(minX + e.getWidth() / 2d - center);
+            final Activation activation = this.world.isAreaLoaded(minX, maxX)
+                    ? e.getType().getActivation(distance)
+                    : Activation.DORMANT;
+            e.setActivation(activation);
+            if (activation != Activation.DORMANT) {
+                e.updateLastPos();
+            }
+            if (activation.isUpdated(tick, e.getType())) {
+                e.think(tick);
+            }
+        };
+        if (this.parallel) {
+            this.world.forEachEntityParallel(think);
+        } else {
+            this.world.forEachEntity(think);
+        }
+        // commit phase, in order: spawns, damage and removals
+        // the moves are queued and resolved by a single pass over the bodies after the player tick
+        this.world.getBodies().beginUpdate();
+        this.world.forEachEntity(e -> {
+            if (e.getActivation().isUpdated(tick, e.getType())) {
+                e.tick(tick);
+                // entities move their position in place
+                this.world.updateEntity(e);
+            } else if (e.getActivation() == Activation.DORMANT && e.getType().isCulled()) {
+                e.remove();
+            }
+        });
+        // update player
+        this.world.getPlayer().updateLastPos();
+        this.world.getPlayer().tick(this.ticks);
+        this.world.getBodies().endUpdate();
+        // contacts between the player and the entities
+        this.world.checkCollisions(this.ticks);
+        this.world.endUpdate();
+        // process keyboard, the input is read once so it's the same that is recorded
+        final int mask = this.input.getMask();
+        this.processInput(mask);
+        if (this.replay != null) {
+            this.replay.record(mask);
+        }
+        // update ticks
+        this.ticks++;
+    }
+
+    /**
+     * Register the reactions of the simulation to the events of the world.
+     */
+    private void registerEvents() {
+        final EventBus bus = this.world.getEventBus();
+        // the player wins when the boss is killed
+        bus.register(GameEvent.ENTITY_REMOVED, (e, value) -> {
+            if (e instanceof Boss && ((Boss) e).isDead()) {
+                this.world.getPlayer().win();
+            }
+        });
+        bus.register(GameEvent.ENTITY_DIED, (e, value) -> {
+            if (e instanceof Player) {
+                this.state = GameState.OVER;
+            }
+        });
+        bus.register(GameEvent.LEVEL_WON, (e, value) -> this.state = GameState.WON);
+    }
+
+    /**
+     * Process the input of a tick.
+     *
+     * @param mask the mask of the active inputs
+     */
+    private void processInput(final int mask) {
+        int velX = 0;
+        // Handle movements
+        if ((mask & Input.RIGHT.getBit()) != 0) {
+            velX += this.world.getPlayer().getSpeed();
+        }
+        if ((mask & Input.LEFT.getBit()) != 0) {
+            velX -= this.world.getPlayer().getSpeed();
+        }
+        this.world.getPlayer().getVel().setX(velX);
+        // Handle jump
+        if ((mask & Input.JUMP.getBit()) != 0) {
+            this.world.getPlayer().jump();
+        }
+        // Handle attack
+        if ((mask & Input.ATTACK.getBit()) != 0) {
+            this.world.getPlayer().attackNearest();
+        }
+    }
+
+    /**
+     * Compute a hash of the player and of the entities, two games with the same hash are
+     * most likely in the same state.
+     *
+     * @return the hash
+     */
+    public long getStateHash() {
+        final Player player = this.world.getPlayer();
+        final long[] hash = {this.ticks};
+        hash[0] = 31 * hash[0] + Double.hashCode(player.getPos().getDoubleX());
+        hash[0] = 31 * hash[0] + Double.hashCode(player.getPos().getDoubleY());
+        hash[0] = 31 * hash[0] + player.getHp();
+        hash[0] = 31 * hash[0] + player.getScore();
+        this.world.forEachEntity(e -> {
+            hash[0] = 31 * hash[0] + e.getType().ordinal();
+            hash[0] = 31 * hash[0] + Double.hashCode(e.getPos().getDoubleX());
+            hash[0] = 31 * hash[0] + Double.hashCode(e.getPos().getDoubleY());
+        });
+        return hash[0];
+    }
+
+    /**
+     * Record the input of the next games, from the next {@link #create()}.
+     *
+     * @param recording true to record
+     */
+    public void setRecording(final boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Run the think phase of the entities in parallel, the game is the same either way.
+     *
+     * @param parallel true to think in parallel, the default
+     */
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Get the recording of the current game, with its result so far.
+     *
+     * @return the recording, empty if the game isn't recorded
+     */
+    public Optional<Replay> getReplay() {
+        if (this.replay == null) {
+            return Optional.empty();
+        }
+        this.replay.finish(this.state, this.world.getPlayer().getScore(), this.getStateHash());
+        return Optional.of(this.replay);
+    }
+
+    /**
+     * Get the number of ticks since the level started.
+     *
+     * @return the ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Get the game state.
+     *
+     * @return the state
+     */
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Set the game state.
+     *
+     * @param state the new state
+     */
+    public void setState(final GameState state) {
+        this.state = state;
+    }
+
+    /**
+     * Get the keyboard input.
+     *
+     * @return the input
+     */
+    public InputController getInput() {
+        return this.input;
+    }
+
+    /**
+     * Get the world loader.
+     *
+     * @return the world loader
+     */
+    public WorldLoader getWorldLoader() {
+        return this.loader;
+    }
+
+    /**
+     * Get the world.
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return this.world;
+    }
+
+}
@@ -0,0 +1,168 @@
+package it.unibo.cicciopier.controller;
+
+import it.unibo.cicciopier.model.Level;
+import it.unibo.cicciopier.model.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Engine that simulates a level without view, audio and gamepads, so it runs without a display.
+ * Ticks are updated one after another on the calling thread as fast as the CPU allows,
+ * instead of {@link GameLoop#TPS} per second, used to batch simulate levels in tests.
+ */
+public final class HeadlessEngine {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessEngine.class);
+    private final Level level;
+    private final GameSimulation simulation;
+
+    /**
+     * Constructor for this class, it disables the audio for the entities that play sounds.
+     *
+     * @param level the level to simulate
+     */
+    public HeadlessEngine(final Level level) {
+        AudioController.getInstance().disable();
+        this.level = level;
+        this.simulation = new GameSimulation(level);
+    }
+
+    /**
+     * Read the level file and populate the world.
+     *
+     * @throws Exception if the file is invalid or doesn't exist
+     */
+    public void load() throws Exception {
+        LOGGER.info("Loading headless game...");
+        this.simulation.load();
+        this.simulation.create();
+    }
+
+    /**
+     * Update the world until the level ends or a number of ticks are updated.
+     *
+     * @param maxTicks the max number of ticks to update
+     * @return the state of the game at the end
+     */
+    public GameState run(final long maxTicks) {
+        final long start = System.nanoTime();
+        final long startTicks = this.getTicks();
+        this.simulate(maxTicks);
+        LOGGER.info("Simulated {} ticks in {}ms, game {}", this.getTicks() - startTicks,
+                (System.nanoTime() - start) / 1_000_000, this.getState());
+        return this.getState();
+    }
+
+    /**
+     * Restart the level recording the input of every tick, get it with {@link #getReplay()}.
+     *
+     * @param seed the seed of the random of the world
+     */
+    public void record(final long seed) {
+        this.simulation.setRecording(true);
+        this.simulation.create(seed);
+    }
+
+    /**
+     * Get the recording of the current game, with its result so far.
+     *
+     * @return the recording, empty if {@link #record(long)} wasn't called
+     */
+    public Optional<Replay> getReplay() {
+        return this.simulation.getReplay();
+    }
+
+    /**
+     * Play back a recording from the first tick and check that the game ends like it did.
+     *
+     * @param replay the recording of a game of this level
+     * @return true if ticks, state, score and hash of the world at the end are the same
+     * @throws IllegalArgumentException if the recording is of another level
+     */
+    public boolean replay(final Replay replay) {
+        if (!replay.getLevel().equals(this.level.getFileName())) {
+            throw new IllegalArgumentException("Replay of level " + replay.getLevel() + " instead of " + this.level.getFileName());
+        }
+        this.simulation.setRecording(false);
+        this.simulation.create(replay.getSeed());
+        for (int i = 0; i < replay.getRuns() && this.getState() == GameState.RUNNING; i++) {
+            this.getInput().setMask(replay.getMask(i));
+            this.simulate(replay.getLength(i));
+        }
+        final boolean same = this.getTicks() == replay.getTicks()
+                && this.getState() == replay.getState()
+                && this.getWorld().getPlayer().getScore() == replay.getScore()
+                && this.simulation.getStateHash() == replay.getHash();
+        if (!same) {
+            LOGGER.warn("Replay diverged: ticks {}/{}, state {}/{}, score {}/{}", this.getTicks(), replay.getTicks(),
+                    this.getState(), replay.getState(), this.getWorld().getPlayer().getScore(), replay.getScore());
+        }
+        return same;
+    }
+
+    /**
+     * Update the world until the level ends or a number of ticks are updated.
+     *
+     * @param maxTicks the max number of ticks to update
+     */
+    private void simulate(final long maxTicks) {
+        final long startTicks = this.getTicks();
+        while (this.getState() == GameState.RUNNING && this.getTicks() - startTicks < maxTicks) {
+            this.simulation.tick();
+        }
+    }
+
+    /**
+     * Run the think phase of the entities in parallel, the game is the same either way.
+     *
+     * @param parallel true to think in parallel, the default
+     */
+    public void setParallel(final boolean parallel) {
+        this.simulation.setParallel(parallel);
+    }
+
+    /**
+     * Restart the level from the first tick.
+     */
+    public void restart() {
+        this.simulation.create();
+    }
+
+    /**
+     * Get the number of ticks since the level started.
+     *
+     * @return the ticks
+     */
+    public long getTicks() {
+        return this.simulation.getTicks();
+    }
+
+    /**
+     * Get the game state.
+     *
+     * @return the state
+     */
+    public GameState getState() {
+        return this.simulation.getState();
+    }
+
+    /**
+     * Get the keyboard input, to drive the player.
+     *
+     * @return the input
+     */
+    public InputController getInput() {
+        return this.simulation.getInput();
+    }
+
+    /**
+     * Get the simulated world.
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return this.simulation.getWorld();
+    }
+
+}
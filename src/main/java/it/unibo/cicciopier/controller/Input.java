@@ -19,5 +19,14 @@ public enum Input {
     /**
      * Attack action.
      */
-    ATTACK
+    ATTACK;
+
+    /**
+     * Get the bit of this input in a mask of inputs.
+     *
+     * @return the bit
+     */
+    public int getBit() {
+        return 1 << this.ordinal();
+    }
 }
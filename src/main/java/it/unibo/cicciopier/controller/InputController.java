@@ -1,16 +1,17 @@
 package it.unibo.cicciopier.controller;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Class for input handling.
+ * Inputs are stored as a mask of {@link Input#getBit()}, the keyboard ones and the gamepad ones apart,
+ * so the whole state of a tick can be read and recorded at once.
  */
 public final class InputController {
-    private final Set<Input> inputs;
+    private volatile int keys;
+    private volatile int gamepad;
 
     public InputController() {
-        this.inputs = new HashSet<>();
+        this.keys = 0;
+        this.gamepad = 0;
     }
 
     /**
@@ -20,7 +21,7 @@ public final class InputController {
      * @return true if active, false otherwise
      */
     public boolean isPressed(final Input input) {
-        return this.inputs.contains(input);
+        return (this.getMask() & input.getBit()) != 0;
     }
 
     /**
@@ -29,7 +30,7 @@ public final class InputController {
      * @param input the input
      */
     public void setPressed(final Input input) {
-        this.inputs.add(input);
+        this.keys |= input.getBit();
     }
 
     /**
@@ -38,7 +39,34 @@ public final class InputController {
      * @param input the input
      */
     public void setUnpressed(final Input input) {
-        this.inputs.remove(input);
+        this.keys &= ~input.getBit();
+    }
+
+    /**
+     * Get the active inputs, from the keyboard or the gamepad.
+     *
+     * @return the mask of the active inputs
+     */
+    public int getMask() {
+        return this.keys | this.gamepad;
+    }
+
+    /**
+     * Replace the active keyboard inputs.
+     *
+     * @param mask the mask of the active inputs
+     */
+    public void setMask(final int mask) {
+        this.keys = mask;
+    }
+
+    /**
+     * Replace the active gamepad inputs.
+     *
+     * @param mask the mask of the active inputs
+     */
+    public void setGamepad(final int mask) {
+        this.gamepad = mask;
     }
 
 }
@@ -0,0 +1,70 @@
+package it.unibo.cicciopier.controller;
+
+import it.unibo.cicciopier.model.settings.Screen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implementation of the interface {@link Loop} that renders the game at the display refresh rate,
+ * independently of the ticks updated by the {@link GameLoop}.
+ */
+public final class RenderLoop extends Thread implements Loop {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RenderLoop.class);
+    private final Engine engine;
+    private final long frameNanos;
+    private volatile boolean running;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param engine the game engine
+     */
+    public RenderLoop(final Engine engine) {
+        super("Render Thread");
+        this.engine = engine;
+        final int fps = Screen.getRefreshRate();
+        this.frameNanos = 1_000_000_000L / fps;
+        LOGGER.info("Rendering at {} fps", fps);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startLoop() {
+        this.running = true;
+        this.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+        while (this.running) {
+            if (this.engine.getState() != GameState.LOADING) {
+                this.engine.render();
+            }
+            nextFrame += this.frameNanos;
+            final long now = System.nanoTime();
+            if (nextFrame < now) {
+                // too late, don't try to recover the lost frames
+                nextFrame = now;
+            }
+            // frames are interpolated, so an imprecise park doesn't cause stuttering
+            LockSupport.parkNanos(nextFrame - now);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stopLoop() {
+        this.running = false;
+    }
+
+}
@@ -0,0 +1,225 @@
+package it.unibo.cicciopier.controller;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Recording of a game: the level, the seed of its random and the input of every tick,
+ * run-length encoded since the input stays the same for many ticks.
+ * The result of the game is saved with it, so playing it back can verify that nothing changed.
+ */
+public final class Replay {
+    private static final int MAGIC = 0x43505250;
+    private static final int VERSION = 3;
+    private static final int INITIAL_CAPACITY = 64;
+    private final String level;
+    private final long seed;
+    private int[] masks;
+    private int[] lengths;
+    private int runs;
+    private long ticks;
+    private GameState state;
+    private int score;
+    private long hash;
+
+    /**
+     * Constructor for this class, for an empty recording.
+     *
+     * @param level the file name of the level
+     * @param seed  the seed of the random
+     */
+    public Replay(final String level, final long seed) {
+        this.level = level;
+        this.seed = seed;
+        this.masks = new int[INITIAL_CAPACITY];
+        this.lengths = new int[INITIAL_CAPACITY];
+        this.runs = 0;
+        this.ticks = 0;
+        this.state = GameState.RUNNING;
+    }
+
+    /**
+     * Append the input of a tick.
+     *
+     * @param mask the mask of the active inputs
+     */
+    public void record(final int mask) {
+        this.append(mask, 1);
+    }
+
+    /**
+     * Save the result of the game.
+     *
+     * @param state the state at the end
+     * @param score the score of the player
+     * @param hash  the hash of the world at the end
+     */
+    public void finish(final GameState state, final int score, final long hash) {
+        this.state = state;
+        this.score = score;
+        this.hash = hash;
+    }
+
+    /**
+     * Write the recording.
+     *
+     * @param out the stream, not closed
+     * @throws IOException if it can't be written
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeUTF(this.level);
+        data.writeLong(this.seed);
+        data.writeInt(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            data.writeByte(this.masks[i]);
+            data.writeInt(this.lengths[i]);
+        }
+        data.writeUTF(this.state.name());
+        data.writeInt(this.score);
+        data.writeLong(this.hash);
+        data.flush();
+    }
+
+    /**
+     * Read a recording.
+     *
+     * @param in the stream, not closed
+     * @return the recording
+     * @throws IOException if it can't be read or it's not a recording
+     */
+    public static Replay read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Not a replay or unsupported version");
+        }
+        final Replay replay = new Replay(data.readUTF(), data.readLong());
+        final int runs = data.readInt();
+        for (int i = 0; i < runs; i++) {
+            final int mask = data.readUnsignedByte();
+            final int length = data.readInt();
+            if (length <= 0) {
+                throw new IOException("Invalid run length " + length);
+            }
+            replay.append(mask, length);
+        }
+        try {
+            replay.finish(GameState.valueOf(data.readUTF()), data.readInt(), data.readLong());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid game state", e);
+        }
+        return replay;
+    }
+
+    /**
+     * Append ticks with the same input, extending the last run if it has that input too.
+     *
+     * @param mask   the mask of the active inputs
+     * @param length the number of ticks
+     */
+    private void append(final int mask, final int length) {
+        if (this.runs > 0 && this.masks[this.runs - 1] == mask
+                && this.lengths[this.runs - 1] <= Integer.MAX_VALUE - length) {
+            this.lengths[this.runs - 1] += length;
+        } else {
+            if (this.runs == this.masks.length) {
+                this.masks = Arrays.copyOf(this.masks, this.runs * 2);
+                this.lengths = Arrays.copyOf(this.lengths, this.runs * 2);
+            }
+            this.masks[this.runs] = mask;
+            this.lengths[this.runs] = length;
+            this.runs++;
+        }
+        this.ticks += length;
+    }
+
+    /**
+     * Get the file name of the level.
+     *
+     * @return the level
+     */
+    public String getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Get the seed of the random.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Get the number of runs of ticks with the same input.
+     *
+     * @return the runs
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Get the input of a run.
+     *
+     * @param run the run index
+     * @return the mask of the active inputs
+     */
+    public int getMask(final int run) {
+        return this.masks[run];
+    }
+
+    /**
+     * Get the number of ticks of a run.
+     *
+     * @param run the run index
+     * @return the length
+     */
+    public int getLength(final int run) {
+        return this.lengths[run];
+    }
+
+    /**
+     * Get the number of ticks recorded.
+     *
+     * @return the ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Get the state at the end of the game.
+     *
+     * @return the state
+     */
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Get the score of the player at the end of the game.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Get the hash of the world at the end of the game.
+     *
+     * @return the hash
+     */
+    public long getHash() {
+        return this.hash;
+    }
+
+}
@@ -1,6 +1,7 @@
 package it.unibo.cicciopier.controller;
 
 import it.unibo.cicciopier.App;
+import it.unibo.cicciopier.model.TileGrid;
 import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.blocks.base.BlockType;
@@ -13,18 +14,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Simple implementation of the interface {@link WorldLoader} for tmx files.
+ * The map is read once, its tiles are kept as a byte array of block types for every chunk and its entities
+ * as spawn records, so a level can be created again without reading the file.
+ * On streamed levels the entities of a chunk are created the first time the chunk is loaded.
  */
 public final class TmxWorldLoader implements WorldLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(TmxWorldLoader.class);
+    /**
+     * Tile whose id isn't a block type, skipped when the chunk is loaded.
+     */
+    private static final byte INVALID_TILE = -1;
     private final World world;
     private final String level;
     private String background;
     private String music;
-    private Map map;
+    private boolean streaming;
+    // block types fit in a byte, the tiles of a chunk are stored row by row
+    private byte[][] chunkTiles;
+    private List<Spawn> spawns;
+    private List<List<Spawn>> chunkSpawns;
+    private boolean[] spawned;
+    private Vector2d playerSpawn;
 
     /**
      * Constructor for this class.
@@ -46,9 +63,9 @@ public final class TmxWorldLoader implements WorldLoader {
         final URL url = App.class.getResource("/levels/" + this.getLevelName());
         LOGGER.info("Loading file {}", url);
         // read height and width from map.
-        this.map = reader.readMap(url);
-        this.getWorld().setHeight(this.map.getHeight());
-        this.getWorld().setWidth(this.map.getWidth());
+        final Map map = reader.readMap(url);
+        this.getWorld().setHeight(map.getHeight());
+        this.getWorld().setWidth(map.getWidth());
         LOGGER.info("Loading map - height: {} - width: {}", this.getWorld().getHeight(), this.getWorld().getWidth());
         final Properties properties = map.getProperties();
         // read background from map proprieties.
@@ -57,6 +74,98 @@ public final class TmxWorldLoader implements WorldLoader {
         // read music from map proprieties.
         this.music = properties.getProperty("music");
         LOGGER.info("Map sound: {}", music);
+        // read streaming from map proprieties, for levels too large to be kept in memory.
+        this.streaming = Boolean.parseBoolean(properties.getProperty("streaming"));
+        LOGGER.info("Map streaming: {}", streaming);
+        // keep only the block types of the tiles and the records of the objects, the map is dropped.
+        this.readTiles((TileLayer) map.getLayer(0));
+        this.readEntities((ObjectGroup) map.getLayer(1));
+        this.readPlayer((ObjectGroup) map.getLayer(2));
+    }
+
+    /**
+     * Read the block type of every tile, a byte each, grouped by chunk.
+     *
+     * @param layer the terrain layer
+     */
+    private void readTiles(final TileLayer layer) {
+        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
+        final int width = this.getWorld().getWidth();
+        final int height = this.getWorld().getHeight();
+        final BlockType[] types = BlockType.values();
+        this.chunkTiles = new byte[this.getChunksCount()][];
+        for (int chunk = 0; chunk < this.chunkTiles.length; chunk++) {
+            final int first = chunk * TileGrid.CHUNK_WIDTH;
+            final int columns = Math.min(TileGrid.CHUNK_WIDTH, width - first);
+            final byte[] tiles = new byte[columns * height];
+            for (int ty = 0; ty < height; ty++) {
+                for (int i = 0; i < columns; i++) {
+                    final Tile tile = layer.getTileAt(first + i, ty);
+                    byte type = (byte) BlockType.AIR.ordinal();
+                    if (tile != null) {
+                        if (tile.getId() >= 0 && tile.getId() < types.length) {
+                            type = (byte) tile.getId();
+                        } else {
+                            LOGGER.error("Invalid block id {} in {}, skipping...", tile.getId(), this.getLevelName());
+                            type = INVALID_TILE;
+                        }
+                    }
+                    tiles[ty * columns + i] = type;
+                }
+            }
+            this.chunkTiles[chunk] = tiles;
+        }
+    }
+
+    /**
+     * Read a spawn record for every object, grouped by the chunk they spawn in.
+     *
+     * @param layer the entities layer
+     */
+    private void readEntities(final ObjectGroup layer) {
+        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
+        final int chunks = this.getChunksCount();
+        this.spawns = new ArrayList<>();
+        this.chunkSpawns = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            this.chunkSpawns.add(new ArrayList<>());
+        }
+        this.spawned = new boolean[chunks];
+        for (final MapObject object : layer) {
+            final String id = object.getType();
+            EntityType type;
+            try {
+                type = EntityType.valueOf(id);
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid entity type {} in {}, skipping...", id, this.getLevelName());
+                continue;
+            }
+            final Spawn spawn = new Spawn(type, object.getX(), object.getY());
+            final int chunk = (int) Math.floor(spawn.x / (TileGrid.CHUNK_WIDTH * Block.SIZE));
+            this.spawns.add(spawn);
+            this.chunkSpawns.get(Math.max(0, Math.min(chunks - 1, chunk))).add(spawn);
+        }
+    }
+
+    /**
+     * Read the spawn position of the player.
+     *
+     * @param layer the player layer
+     */
+    private void readPlayer(final ObjectGroup layer) {
+        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
+        // the first object is the player.
+        final MapObject object = layer.iterator().next();
+        this.playerSpawn = new Vector2d(object.getX(), object.getY());
+    }
+
+    /**
+     * Get the number of chunks of the map.
+     *
+     * @return the number of chunks
+     */
+    private int getChunksCount() {
+        return (this.getWorld().getWidth() + TileGrid.CHUNK_WIDTH - 1) / TileGrid.CHUNK_WIDTH;
     }
 
     /**
@@ -64,22 +173,38 @@ public final class TmxWorldLoader implements WorldLoader {
      */
     @Override
     public void loadBlocks() {
-        final TileLayer layer = (TileLayer) this.map.getLayer(0);
-        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
-        // get every tile and create a block from its id, then set it at its position and add it to the world.
+        // streamed levels load their chunks, and spawn their entities, while the player moves
+        if (this.streaming) {
+            this.getWorld().setChunkLoader(chunk -> {
+                this.loadChunk(chunk);
+                this.spawnChunk(chunk);
+            });
+            return;
+        }
+        for (int i = 0; i < this.getChunksCount(); i++) {
+            this.loadChunk(i);
+        }
+    }
+
+    /**
+     * Load the blocks of a chunk from the map.
+     *
+     * @param chunk the chunk index
+     */
+    private void loadChunk(final int chunk) {
+        final byte[] tiles = this.chunkTiles[chunk];
+        final int first = chunk * TileGrid.CHUNK_WIDTH;
+        final int columns = tiles.length / this.getWorld().getHeight();
+        final BlockType[] types = BlockType.values();
+        // create a block from the type of every tile, then set it at its tile in the world.
         for (int ty = 0; ty < this.getWorld().getHeight(); ty++) {
-            for (int tx = 0; tx < this.getWorld().getWidth(); tx++) {
-                final Tile tile = layer.getTileAt(tx, ty);
-                BlockType type = BlockType.AIR;
-                if (tile != null) {
-                    final int id = tile.getId();
-                    try {
-                        type = BlockType.values()[id];
-                    } catch (ArrayIndexOutOfBoundsException e) {
-                        LOGGER.error("Invalid block id {} in {}, skipping...", id, this.getLevelName());
-                        continue;
-                    }
+            for (int i = 0; i < columns; i++) {
+                final byte id = tiles[ty * columns + i];
+                if (id == INVALID_TILE) {
+                    continue;
                 }
+                final int tx = first + i;
+                final BlockType type = types[id];
                 final Optional<Block> opt = this.getWorld().getBlockFactory().createBlock(type);
                 if (opt.isEmpty()) {
                     LOGGER.error("Error creating block of type {} in {} at coordinates {} {}, skipping...",
@@ -87,7 +212,10 @@ public final class TmxWorldLoader implements WorldLoader {
                     continue;
                 }
                 final Block b = opt.get();
-                b.setPos(new Vector2d(tx * Block.SIZE, ty * Block.SIZE));
+                // other blocks are shared between the tiles, their position is the tile one
+                if (b.canInteract()) {
+                    b.setPos(new Vector2d(tx * Block.SIZE, ty * Block.SIZE));
+                }
                 this.getWorld().setBlock(tx, ty, b);
             }
         }
@@ -98,29 +226,42 @@ public final class TmxWorldLoader implements WorldLoader {
      */
     @Override
     public void loadEntities() {
-        final ObjectGroup layer = (ObjectGroup) this.map.getLayer(1);
-        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
-        // get every object and create an entity from its type, then teleport it and add it to the world.
-        for (final MapObject object : layer) {
-            final String id = object.getType();
-            EntityType type;
-            try {
-                type = EntityType.valueOf(id);
-            } catch (IllegalArgumentException e) {
-                LOGGER.error("Invalid entity type {} in {}, skipping...", id, this.getLevelName());
-                continue;
-            }
-            final Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(type);
-            if (opt.isEmpty()) {
-                LOGGER.error("Error creating entity of type {} in {} at coordinates {} {}, skipping...",
-                        type.name(), this.getLevelName(), object.getX(), object.getY());
-                continue;
-            }
-            final Entity e = opt.get();
-            e.setPos(new Vector2d(object.getX(), object.getY()));
-            e.load();
-            this.getWorld().addEntity(e);
+        Arrays.fill(this.spawned, false);
+        // streamed levels spawn the entities of a chunk when it's loaded the first time
+        if (this.streaming) {
+            return;
         }
+        this.spawns.forEach(this::spawn);
+    }
+
+    /**
+     * Spawn the entities of a chunk, if it's the first time it's loaded.
+     *
+     * @param chunk the chunk index
+     */
+    private void spawnChunk(final int chunk) {
+        if (!this.spawned[chunk]) {
+            this.spawned[chunk] = true;
+            this.chunkSpawns.get(chunk).forEach(this::spawn);
+        }
+    }
+
+    /**
+     * Create an entity from its record, then teleport it and add it to the world.
+     *
+     * @param spawn the spawn record
+     */
+    private void spawn(final Spawn spawn) {
+        final Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(spawn.type);
+        if (opt.isEmpty()) {
+            LOGGER.error("Error creating entity of type {} in {} at coordinates {} {}, skipping...",
+                    spawn.type.name(), this.getLevelName(), spawn.x, spawn.y);
+            return;
+        }
+        final Entity e = opt.get();
+        e.setPos(new Vector2d(spawn.x, spawn.y));
+        e.load();
+        this.getWorld().addEntity(e);
     }
 
     /**
@@ -128,11 +269,8 @@ public final class TmxWorldLoader implements WorldLoader {
      */
     @Override
     public void loadPlayer() {
-        final ObjectGroup layer = (ObjectGroup) this.map.getLayer(2);
-        LOGGER.info("Level {} - {}", layer.getId(), layer.getName());
-        // get the first object and teleport the player there.
-        final MapObject object = layer.iterator().next();
-        this.getWorld().getPlayer().setPos(new Vector2d(object.getX(), object.getY()));
+        // teleport the player at its spawn.
+        this.getWorld().getPlayer().setPos(this.playerSpawn);
     }
 
     /**
@@ -166,4 +304,26 @@ public final class TmxWorldLoader implements WorldLoader {
     public String getMusic() {
         return music;
     }
+
+    /**
+     * Type and position of an entity of the map.
+     */
+    private static final class Spawn {
+        private final EntityType type;
+        private final double x;
+        private final double y;
+
+        /**
+         * Constructor for this class.
+         *
+         * @param type the type of the entity
+         * @param x    the x of the entity
+         * @param y    the y of the entity
+         */
+        private Spawn(final EntityType type, final double x, final double y) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+        }
+    }
 }
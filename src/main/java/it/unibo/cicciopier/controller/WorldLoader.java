@@ -46,6 +46,8 @@ public interface WorldLoader {
         this.loadBlocks();
         this.loadPlayer();
         this.loadEntities();
+        // on streamed levels only the chunks around the player are loaded
+        this.getWorld().streamChunks(this.getWorld().getPlayer().getPos().getDoubleX());
     }
 
     /**
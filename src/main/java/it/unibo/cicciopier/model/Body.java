@@ -0,0 +1,37 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.blocks.base.ShapelessBlock;
+import it.unibo.cicciopier.model.entities.base.Collision;
+
+/**
+ * Owner of a body in a {@link BodyStore}, notified by the physics pass.
+ */
+public interface Body {
+
+    /**
+     * Get the max falling speed of the body.
+     *
+     * @return the max vertical velocity gravity can reach
+     */
+    double getMaxGravity();
+
+    /**
+     * Called when the body touches a tile, or falls out of the world.
+     *
+     * @param collision the collision
+     */
+    void onCollision(final Collision collision);
+
+    /**
+     * Called when the body goes through an interactive tile.
+     *
+     * @param block the block
+     */
+    void onInteract(final ShapelessBlock block);
+
+    /**
+     * Called after the body has been moved.
+     */
+    void onMoved();
+
+}
@@ -0,0 +1,392 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.blocks.base.ShapelessBlock;
+import it.unibo.cicciopier.model.entities.base.Collision;
+import it.unibo.cicciopier.model.entities.base.TileSweep;
+
+import java.util.Arrays;
+
+/**
+ * Store of the physics bodies of the moving entities in the {@link World}.
+ * Positions, velocities, sizes and flags are kept in parallel arrays indexed by the id of the body,
+ * and the entities read and write them through {@link BodyVector}s.
+ * Ids are reused after a body is freed, so they stay small and the arrays dense.
+ * While an update is running, the requested moves and frees are queued: the gravity, integration and
+ * tile collision pass runs over all the moving bodies, in order of id, when the update ends,
+ * then the bodies are freed, so an id is never reused while the pass is running.
+ * Bodies are allocated, moved and freed on the game thread only.
+ */
+public final class BodyStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int USED = 1;
+    private static final int MOVE = 1 << 1;
+    private static final int GROUND = 1 << 2;
+    private static final int FREE = 1 << 3;
+    private static final double GRAVITY = 1;
+    private static final int MAX_SLIDES = 3;
+    private final World world;
+    private final TileSweep sweep;
+    private double[] x;
+    private double[] y;
+    private double[] velX;
+    private double[] velY;
+    private int[] width;
+    private int[] height;
+    private int[] flags;
+    private Body[] owners;
+    private BodyVector[] positions;
+    private BodyVector[] velocities;
+    private int[] free;
+    private int freeCount;
+    private int size;
+    private int updates;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param world the world whose tiles stop the bodies
+     */
+    public BodyStore(final World world) {
+        this.world = world;
+        this.sweep = new TileSweep();
+        this.x = new double[INITIAL_CAPACITY];
+        this.y = new double[INITIAL_CAPACITY];
+        this.velX = new double[INITIAL_CAPACITY];
+        this.velY = new double[INITIAL_CAPACITY];
+        this.width = new int[INITIAL_CAPACITY];
+        this.height = new int[INITIAL_CAPACITY];
+        this.flags = new int[INITIAL_CAPACITY];
+        this.owners = new Body[INITIAL_CAPACITY];
+        this.positions = new BodyVector[INITIAL_CAPACITY];
+        this.velocities = new BodyVector[INITIAL_CAPACITY];
+        this.free = new int[INITIAL_CAPACITY];
+        this.freeCount = 0;
+        this.size = 0;
+        this.updates = 0;
+    }
+
+    /**
+     * Allocate a body at the origin, not moving.
+     *
+     * @param width  the width of the body
+     * @param height the height of the body
+     * @return the id of the body
+     */
+    public int allocate(final int width, final int height) {
+        final int id;
+        if (this.freeCount > 0) {
+            id = this.free[--this.freeCount];
+        } else {
+            if (this.size == this.flags.length) {
+                this.grow();
+            }
+            id = this.size++;
+        }
+        this.x[id] = 0;
+        this.y[id] = 0;
+        this.velX[id] = 0;
+        this.velY[id] = 0;
+        this.width[id] = width;
+        this.height[id] = height;
+        this.flags[id] = USED;
+        this.owners[id] = null;
+        this.positions[id] = new BodyVector(this, id, false);
+        this.velocities[id] = new BodyVector(this, id, true);
+        return id;
+    }
+
+    /**
+     * Free a body, at the end of the update if one is running.
+     * Its vectors keep their last values, bodies already freed are ignored.
+     *
+     * @param id the id of the body
+     */
+    public void free(final int id) {
+        if (id < 0) {
+            return;
+        }
+        if (this.updates > 0) {
+            this.flags[id] |= FREE;
+        } else {
+            this.release(id);
+        }
+    }
+
+    /**
+     * Give back the id of a body.
+     *
+     * @param id the id of the body
+     */
+    private void release(final int id) {
+        if ((this.flags[id] & USED) == 0) {
+            return;
+        }
+        this.flags[id] = 0;
+        this.positions[id].detach();
+        this.velocities[id].detach();
+        this.positions[id] = null;
+        this.velocities[id] = null;
+        this.owners[id] = null;
+        this.free[this.freeCount++] = id;
+    }
+
+    /**
+     * Set the owner notified by the physics pass.
+     *
+     * @param id    the id of the body
+     * @param owner the owner
+     */
+    public void setOwner(final int id, final Body owner) {
+        this.owners[id] = owner;
+    }
+
+    /**
+     * Get the position of a body, which stays the same vector for its whole life.
+     *
+     * @param id the id of the body
+     * @return the position
+     */
+    public BodyVector getPosition(final int id) {
+        return this.positions[id];
+    }
+
+    /**
+     * Get the velocity of a body, which stays the same vector for its whole life.
+     *
+     * @param id the id of the body
+     * @return the velocity
+     */
+    public BodyVector getVelocity(final int id) {
+        return this.velocities[id];
+    }
+
+    /**
+     * Get the number of bodies.
+     *
+     * @return the number of allocated bodies
+     */
+    public int getCount() {
+        return this.size - this.freeCount;
+    }
+
+    /**
+     * Check if a body stands on a tile since its last move.
+     *
+     * @param id the id of the body
+     * @return true if on the ground
+     */
+    public boolean isOnGround(final int id) {
+        return (this.flags[id] & GROUND) != 0;
+    }
+
+    /**
+     * Move a body along its velocity, at the end of the update if one is running.
+     *
+     * @param id the id of the body
+     */
+    public void move(final int id) {
+        this.flags[id] |= MOVE;
+        if (this.updates == 0) {
+            this.beginUpdate();
+            this.endUpdate();
+        }
+    }
+
+    /**
+     * Start an update, moves requested from now on are queued.
+     * Updates can be nested, the moves are resolved when the outer one ends.
+     */
+    public void beginUpdate() {
+        this.updates++;
+    }
+
+    /**
+     * End an update, resolving the queued moves if it's the outer one.
+     */
+    public void endUpdate() {
+        if (this.updates == 0) {
+            throw new IllegalStateException("No update running");
+        }
+        if (this.updates == 1) {
+            // bodies allocated by the callbacks aren't moving yet, the size can grow safely
+            for (int id = 0; id < this.size; id++) {
+                if ((this.flags[id] & MOVE) != 0) {
+                    this.resolve(id);
+                }
+            }
+            for (int id = 0; id < this.size; id++) {
+                if ((this.flags[id] & FREE) != 0) {
+                    this.release(id);
+                }
+            }
+        }
+        this.updates--;
+    }
+
+    /**
+     * Get the x of a body.
+     *
+     * @param id the id of the body
+     * @return the x
+     */
+    double getX(final int id) {
+        return this.x[id];
+    }
+
+    /**
+     * Set the x of a body.
+     *
+     * @param id the id of the body
+     * @param x  the x
+     */
+    void setX(final int id, final double x) {
+        this.x[id] = x;
+    }
+
+    /**
+     * Get the y of a body.
+     *
+     * @param id the id of the body
+     * @return the y
+     */
+    double getY(final int id) {
+        return this.y[id];
+    }
+
+    /**
+     * Set the y of a body.
+     *
+     * @param id the id of the body
+     * @param y  the y
+     */
+    void setY(final int id, final double y) {
+        this.y[id] = y;
+    }
+
+    /**
+     * Get the x of the velocity of a body.
+     *
+     * @param id the id of the body
+     * @return the x of the velocity
+     */
+    double getVelX(final int id) {
+        return this.velX[id];
+    }
+
+    /**
+     * Set the x of the velocity of a body.
+     *
+     * @param id   the id of the body
+     * @param velX the x of the velocity
+     */
+    void setVelX(final int id, final double velX) {
+        this.velX[id] = velX;
+    }
+
+    /**
+     * Get the y of the velocity of a body.
+     *
+     * @param id the id of the body
+     * @return the y of the velocity
+     */
+    double getVelY(final int id) {
+        return this.velY[id];
+    }
+
+    /**
+     * Set the y of the velocity of a body.
+     *
+     * @param id   the id of the body
+     * @param velY the y of the velocity
+     */
+    void setVelY(final int id, final double velY) {
+        this.velY[id] = velY;
+    }
+
+    /**
+     * Sweep a body along its velocity, sliding along the tiles it hits, then apply gravity.
+     * The owner is notified of every collision and interactive tile found by the sweeps.
+     *
+     * @param id the id of the body
+     */
+    private void resolve(final int id) {
+        this.flags[id] &= ~MOVE;
+        final Body owner = this.owners[id];
+        final double startX = this.x[id];
+        final double startY = this.y[id];
+        final boolean rising = this.velY[id] < 0;
+        final boolean falling = this.velY[id] > 0;
+        double moveX = this.velX[id];
+        double moveY = this.velY[id];
+        boolean landed = false;
+        for (int i = 0; i < MAX_SLIDES && (moveX != 0 || moveY != 0); i++) {
+            this.sweep.sweep(this.world, this.x[id], this.y[id], this.width[id], this.height[id], moveX, moveY);
+            this.x[id] = this.sweep.getX();
+            this.y[id] = this.sweep.getY();
+            for (int j = 0; j < this.sweep.getInteractiveCount(); j++) {
+                owner.onInteract((ShapelessBlock) this.sweep.getInteractive(j));
+            }
+            if (!this.sweep.isHit()) {
+                break;
+            }
+            // slide along the tile for the rest of the movement
+            moveX *= 1 - this.sweep.getTime();
+            moveY *= 1 - this.sweep.getTime();
+            if (this.sweep.isWall()) {
+                moveX = 0;
+                this.velX[id] = this.x[id] - startX;
+                final boolean right = this.sweep.getNormalX() < 0;
+                if (this.velX[id] == 0) {
+                    owner.onCollision(right ? Collision.COLLIDING_RIGHT : Collision.COLLIDING_LEFT);
+                } else {
+                    owner.onCollision(right ? Collision.NEAR_COLLIDING_RIGHT : Collision.NEAR_COLLIDING_LEFT);
+                }
+            } else if (this.sweep.isGround()) {
+                moveY = 0;
+                landed = true;
+                if (this.y[id] != startY) {
+                    owner.onCollision(Collision.NEAR_COLLIDING_DOWN);
+                }
+                this.velY[id] = 0;
+                this.flags[id] |= GROUND;
+                owner.onCollision(Collision.COLLIDING_DOWN);
+            } else {
+                moveY = 0;
+                this.velY[id] = this.y[id] - startY;
+                owner.onCollision(this.velY[id] == 0 ? Collision.COLLIDING_UP : Collision.NEAR_COLLIDING_UP);
+            }
+        }
+        if (rising || falling && !landed) {
+            this.flags[id] &= ~GROUND;
+        }
+        if (this.y[id] + this.height[id] >= this.world.getHeight() * Block.SIZE) {
+            owner.onCollision(Collision.FALLING);
+        }
+        // gravity, the ground is found again by the next sweep
+        final double maxGravity = owner.getMaxGravity();
+        if (this.velY[id] < maxGravity) {
+            this.velY[id] = Math.min(maxGravity, this.velY[id] + GRAVITY);
+        }
+        owner.onMoved();
+    }
+
+    /**
+     * Double the capacity of the arrays.
+     */
+    private void grow() {
+        final int capacity = this.flags.length * 2;
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.velX = Arrays.copyOf(this.velX, capacity);
+        this.velY = Arrays.copyOf(this.velY, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.flags = Arrays.copyOf(this.flags, capacity);
+        this.owners = Arrays.copyOf(this.owners, capacity);
+        this.positions = Arrays.copyOf(this.positions, capacity);
+        this.velocities = Arrays.copyOf(this.velocities, capacity);
+        this.free = Arrays.copyOf(this.free, capacity);
+    }
+
+}
@@ -0,0 +1,96 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.utility.Vector2d;
+
+/**
+ * Position or velocity of a body, read from and written to the arrays of its {@link BodyStore}.
+ * When the body is freed the vector keeps its last value and works as a plain vector.
+ */
+public final class BodyVector extends Vector2d {
+    private final BodyStore store;
+    private final boolean velocity;
+    private int id;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param store    the store
+     * @param id       the id of the body
+     * @param velocity true for the velocity, false for the position
+     */
+    BodyVector(final BodyStore store, final int id, final boolean velocity) {
+        this.store = store;
+        this.id = id;
+        this.velocity = velocity;
+    }
+
+    /**
+     * Stop reading from the store, keeping the last value.
+     */
+    void detach() {
+        if (this.id >= 0) {
+            super.set(this.getDoubleX(), this.getDoubleY());
+            this.id = -1;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDoubleX() {
+        if (this.id < 0) {
+            return super.getDoubleX();
+        }
+        return this.velocity ? this.store.getVelX(this.id) : this.store.getX(this.id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDoubleY() {
+        if (this.id < 0) {
+            return super.getDoubleY();
+        }
+        return this.velocity ? this.store.getVelY(this.id) : this.store.getY(this.id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setX(final double x) {
+        if (this.id < 0) {
+            super.setX(x);
+        } else if (this.velocity) {
+            this.store.setVelX(this.id, x);
+        } else {
+            this.store.setX(this.id, x);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setY(final double y) {
+        if (this.id < 0) {
+            super.setY(y);
+        } else if (this.velocity) {
+            this.store.setVelY(this.id, y);
+        } else {
+            this.store.setY(this.id, y);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(final double x, final double y) {
+        this.setX(x);
+        this.setY(y);
+    }
+
+}
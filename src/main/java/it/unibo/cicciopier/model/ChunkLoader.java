@@ -0,0 +1,18 @@
+package it.unibo.cicciopier.model;
+
+/**
+ * Source of the blocks of a chunk, used by the {@link World} to stream the level around the player.
+ */
+@FunctionalInterface
+public interface ChunkLoader {
+
+    /**
+     * Set the blocks of a chunk in the world, from its columns at
+     * {@code chunk * TileGrid.CHUNK_WIDTH} to the next chunk.
+     * The chunk already counts as loaded, so the entities added in it spawn right away.
+     *
+     * @param chunk the chunk index
+     */
+    void loadChunk(final int chunk);
+
+}
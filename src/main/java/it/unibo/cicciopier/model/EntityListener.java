@@ -0,0 +1,26 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+/**
+ * Listener of the entities added to and removed from an {@link EntityStore}.
+ */
+public interface EntityListener {
+
+    /**
+     * Called after an entity has been added to the world.
+     *
+     * @param entity the entity
+     */
+    default void onSpawn(final Entity entity) {
+    }
+
+    /**
+     * Called after an entity has been removed from the world.
+     *
+     * @param entity the entity
+     */
+    default void onRemove(final Entity entity) {
+    }
+
+}
@@ -0,0 +1,260 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Store of the entities in the {@link World}.
+ * While an update is running, added and removed entities are queued and applied all together
+ * when the update ends, so the entities can be iterated without copying them.
+ * Every entity knows its index in the store and is removed swapping it with the last one,
+ * which changes the order of the entities.
+ * Entities can also be iterated in parallel partitions, while the store can't be changed.
+ */
+public final class EntityStore {
+    private static final int INITIAL_CAPACITY = 64;
+    /**
+     * Min number of entities iterated in parallel, fewer are faster on a single thread.
+     */
+    public static final int PARALLEL_THRESHOLD = 256;
+    /**
+     * Min number of entities in a partition.
+     */
+    private static final int PARTITION_SIZE = 64;
+    private final EntityListener listener;
+    private final List<Entity> pendingAdds;
+    private final List<Entity> pendingRemoves;
+    private Entity[] entities;
+    private int size;
+    private int updates;
+    private volatile boolean parallel;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param listener the listener notified when an entity is actually added or removed
+     */
+    public EntityStore(final EntityListener listener) {
+        this.listener = listener;
+        this.pendingAdds = new ArrayList<>();
+        this.pendingRemoves = new ArrayList<>();
+        this.entities = new Entity[INITIAL_CAPACITY];
+        this.size = 0;
+        this.updates = 0;
+        this.parallel = false;
+    }
+
+    /**
+     * Add an entity, at the end of the update if one is running.
+     *
+     * @param entity the entity
+     * @throws IllegalStateException if the entities are iterated in parallel
+     */
+    public void add(final Entity entity) {
+        this.checkNotParallel();
+        if (this.updates > 0) {
+            this.pendingAdds.add(entity);
+        } else {
+            this.insert(entity);
+        }
+    }
+
+    /**
+     * Remove an entity, at the end of the update if one is running.
+     * Entities not in the store are ignored.
+     *
+     * @param entity the entity
+     * @throws IllegalStateException if the entities are iterated in parallel
+     */
+    public void remove(final Entity entity) {
+        this.checkNotParallel();
+        if (this.updates > 0) {
+            this.pendingRemoves.add(entity);
+        } else {
+            this.delete(entity);
+        }
+    }
+
+    /**
+     * Start an update, entities added or removed from now on are queued.
+     * Updates can be nested, the queues are applied when the outer one ends.
+     */
+    public void beginUpdate() {
+        this.updates++;
+    }
+
+    /**
+     * End an update, applying the queued changes if it's the outer one.
+     */
+    public void endUpdate() {
+        if (this.updates == 0) {
+            throw new IllegalStateException("No update running");
+        }
+        this.updates--;
+        if (this.updates == 0) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Execute an action on every entity, inside an update.
+     *
+     * @param action the action
+     */
+    public void forEach(final Consumer<Entity> action) {
+        this.beginUpdate();
+        try {
+            for (int i = 0; i < this.size; i++) {
+                action.accept(this.entities[i]);
+            }
+        } finally {
+            this.endUpdate();
+        }
+    }
+
+    /**
+     * Execute an action on every entity, in partitions run on the {@link ForkJoinPool#commonPool()}
+     * if there are at least {@link #PARALLEL_THRESHOLD} entities.
+     * The action must not depend on the other entities being visited before or after,
+     * the store can't be changed until every partition is done.
+     *
+     * @param action the action
+     */
+    public void forEachParallel(final Consumer<Entity> action) {
+        if (this.size < PARALLEL_THRESHOLD) {
+            this.forEach(action);
+            return;
+        }
+        final int partition = Math.max(PARTITION_SIZE, this.size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        this.parallel = true;
+        try {
+            ForkJoinPool.commonPool().invoke(new Partition(this.entities, 0, this.size, partition, action));
+        } finally {
+            this.parallel = false;
+        }
+    }
+
+    /**
+     * Get a copy of the entities.
+     *
+     * @return the list
+     */
+    public List<Entity> toList() {
+        return new ArrayList<>(Arrays.asList(this.entities).subList(0, this.size));
+    }
+
+    /**
+     * Check that the entities aren't iterated in parallel, so the store can be changed.
+     */
+    private void checkNotParallel() {
+        if (this.parallel) {
+            throw new IllegalStateException("Entities can't be added or removed while iterated in parallel");
+        }
+    }
+
+    /**
+     * Apply the queued changes, added entities first.
+     */
+    private void flush() {
+        for (int i = 0; i < this.pendingAdds.size(); i++) {
+            this.insert(this.pendingAdds.get(i));
+        }
+        this.pendingAdds.clear();
+        for (int i = 0; i < this.pendingRemoves.size(); i++) {
+            this.delete(this.pendingRemoves.get(i));
+        }
+        this.pendingRemoves.clear();
+    }
+
+    /**
+     * Put an entity at the end of the store.
+     *
+     * @param entity the entity
+     */
+    private void insert(final Entity entity) {
+        if (entity.getStoreIndex() != Entity.NO_INDEX) {
+            return;
+        }
+        if (this.size == this.entities.length) {
+            this.entities = Arrays.copyOf(this.entities, this.size * 2);
+        }
+        this.entities[this.size] = entity;
+        entity.setStoreIndex(this.size);
+        this.size++;
+        this.listener.onSpawn(entity);
+    }
+
+    /**
+     * Remove an entity moving the last one in its place.
+     *
+     * @param entity the entity
+     */
+    private void delete(final Entity entity) {
+        final int index = entity.getStoreIndex();
+        if (index == Entity.NO_INDEX || index >= this.size || this.entities[index] != entity) {
+            return;
+        }
+        this.size--;
+        final Entity last = this.entities[this.size];
+        this.entities[this.size] = null;
+        if (last != entity) {
+            this.entities[index] = last;
+            last.setStoreIndex(index);
+        }
+        entity.setStoreIndex(Entity.NO_INDEX);
+        this.listener.onRemove(entity);
+    }
+
+    /**
+     * Range of entities visited by a task, split in half until it's small enough.
+     */
+    private static final class Partition extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Entity[] entities;
+        private final int from;
+        private final int to;
+        private final int size;
+        private final Consumer<Entity> action;
+
+        /**
+         * Constructor for this class.
+         *
+         * @param entities the entities
+         * @param from     the first index, inclusive
+         * @param to       the last index, exclusive
+         * @param size     the max number of entities visited without splitting
+         * @param action   the action
+         */
+        private Partition(final Entity[] entities, final int from, final int to, final int size,
+                          final Consumer<Entity> action) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.size = size;
+            this.action = action;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.size) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.action.accept(this.entities[i]);
+                }
+                return;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new Partition(this.entities, this.from, middle, this.size, this.action),
+                    new Partition(this.entities, middle, this.to, this.size, this.action));
+        }
+    }
+
+}
@@ -32,12 +32,25 @@ public interface GameObject {
     Vector2d getPos();
 
     /**
-     * Set the position inside the {@link World}.
+     * Set the position inside the {@link World}, copying the coordinates of the vector.
      *
      * @param pos the new position
      */
     void setPos(final Vector2d pos);
 
+    /**
+     * Get the position inside the {@link World} at the previous tick.
+     * Used by the view to interpolate the movement between two ticks.
+     *
+     * @return the previous position
+     */
+    Vector2d getLastPos();
+
+    /**
+     * Save the current position as the previous one, called before every tick.
+     */
+    void updateLastPos();
+
     /**
      * Get the {@link Rectangle} that represents the occupied space inside the {@link World}.
      *
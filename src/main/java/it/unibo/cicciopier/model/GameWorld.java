@@ -6,36 +6,70 @@ import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.EntityFactory;
 import it.unibo.cicciopier.model.entities.EntityFactoryImpl;
 import it.unibo.cicciopier.model.entities.Player;
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
 import it.unibo.cicciopier.model.entities.base.Entity;
+import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.model.entities.enemies.Enemy;
+import it.unibo.cicciopier.model.entities.enemies.Projectile;
+import it.unibo.cicciopier.model.entities.items.Item;
+import it.unibo.cicciopier.model.events.EventBus;
+import it.unibo.cicciopier.model.events.GameEvent;
 import it.unibo.cicciopier.utility.Vector2d;
 
+import java.awt.*;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Simple implementation of the interface {@link World}.
  */
 public final class GameWorld implements World {
+    /**
+     * Chunks loaded on each side of the streaming position.
+     */
+    public static final int STREAM_RADIUS = 3;
+    /**
+     * Chunks kept in memory while streaming.
+     */
+    public static final int MAX_LOADED_CHUNKS = 4 * STREAM_RADIUS + 2;
     private final EntityFactory entityFactory;
     private final BlockFactory blockFactory;
+    private final EventBus eventBus;
 
     private int height;
     private int width;
+    private long seed;
 
-    private Block[][] blocks;
-    private List<Entity> entities;
+    private volatile TileGrid blocks;
+    private volatile int blocksRevision;
+    private ChunkLoader chunkLoader;
+    private Map<Integer, List<Entity>> parked;
+    private Set<Entity> evicted;
+    private EntityStore entities;
+    private SpatialGrid grid;
+    private SweepAndPrune broadphase;
+    private BodyStore bodies;
+    private Random random;
     private Player player;
 
     /**
-     * Constructor for this class, it instantiates entity and block factories.
+     * Constructor for this class, it instantiates entity and block factories and picks a random seed.
      * {@link #setHeight(int)}, {@link #setWidth(int)} and {@link #clear()} must be called after this.
      */
     public GameWorld() {
         this.entityFactory = new EntityFactoryImpl(this);
         this.blockFactory = new SimpleBlockFactory();
+        this.eventBus = new EventBus();
+        this.seed = new Random().nextLong();
     }
 
     /**
@@ -91,10 +125,7 @@ public final class GameWorld implements World {
      **/
     @Override
     public Block getBlock(final int x, final int y) {
-        if (x >= this.getWidth() || y >= this.getHeight()) {
-            return null;
-        }
-        return this.blocks[y][x];
+        return this.blocks.get(x, y);
     }
 
     /**
@@ -102,7 +133,79 @@ public final class GameWorld implements World {
      **/
     @Override
     public void setBlock(final int x, final int y, final Block block) {
-        this.blocks[y][x] = block;
+        this.blocks.set(x, y, block);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isSolid(final int x, final int y) {
+        return this.blocks.isSolid(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public int getBlocksRevision() {
+        return this.blocksRevision;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public int getChunkRevision(final int chunk) {
+        return this.blocks.getRevision(chunk);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void setChunkLoader(final ChunkLoader loader) {
+        this.chunkLoader = loader;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void streamChunks(final double x) {
+        if (this.chunkLoader == null || this.blocks.getChunksCount() == 0) {
+            return;
+        }
+        final int center = this.getChunk(x);
+        final int first = Math.max(0, center - STREAM_RADIUS);
+        final int last = Math.min(this.blocks.getChunksCount() - 1, center + STREAM_RADIUS);
+        for (int i = first; i <= last; i++) {
+            if (!this.blocks.isLoaded(i)) {
+                this.loadChunk(i);
+            }
+            this.blocks.use(i);
+        }
+        // the chunks near the position were just used, they're never the least recently used ones
+        while (this.blocks.getLoadedCount() > MAX_LOADED_CHUNKS) {
+            this.unloadChunk(this.blocks.getLeastRecentlyUsed());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean isAreaLoaded(final double minX, final double maxX) {
+        if (this.chunkLoader == null) {
+            return true;
+        }
+        final int last = Math.min(this.blocks.getChunksCount() - 1, this.getChunk(maxX) + 1);
+        for (int i = Math.max(0, this.getChunk(minX) - 1); i <= last; i++) {
+            if (!this.blocks.isLoaded(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -110,7 +213,23 @@ public final class GameWorld implements World {
      **/
     @Override
     public List<Entity> getEntities() {
-        return new ArrayList<>(this.entities);
+        return this.entities.toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void forEachEntity(final Consumer<Entity> action) {
+        this.entities.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void forEachEntityParallel(final Consumer<Entity> action) {
+        this.entities.forEachParallel(action);
     }
 
     /**
@@ -118,10 +237,88 @@ public final class GameWorld implements World {
      **/
     @Override
     public List<Entity> getEntitiesInRange(final Vector2d pos, final int radius) {
-        return this.entities.stream()
-                .filter(e -> Math.abs(e.getPos().getX() - pos.getX()) < radius ||
-                        Math.abs(e.getBounds().getMaxX() - pos.getX()) < radius)
-                .collect(Collectors.toList());
+        final List<Entity> list = new ArrayList<>();
+        this.getEntitiesInRange(pos, radius, list);
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void getEntitiesInRange(final Vector2d pos, final int radius, final List<Entity> result) {
+        result.clear();
+        // every row, only the x is checked
+        this.grid.collectInArea(pos.getX() - radius, Double.NEGATIVE_INFINITY, pos.getX() + radius, Double.POSITIVE_INFINITY, result);
+        // keep the candidates in range, in place
+        int size = 0;
+        for (int i = 0; i < result.size(); i++) {
+            final Entity e = result.get(i);
+            if (Math.abs(e.getPos().getX() - pos.getX()) < radius ||
+                    Math.abs(e.getPos().getX() + e.getWidth() - pos.getX()) < radius) {
+                result.set(size++, e);
+            }
+        }
+        while (result.size() > size) {
+            result.remove(result.size() - 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public List<Entity> getEntitiesInArea(final Rectangle area) {
+        final List<Entity> list = new ArrayList<>();
+        this.grid.forEachInArea(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(), e -> {
+            if (e.getPos().getDoubleX() < area.getMaxX() && e.getPos().getDoubleX() + e.getWidth() > area.getMinX()
+                    && e.getPos().getDoubleY() < area.getMaxY() && e.getPos().getDoubleY() + e.getHeight() > area.getMinY()) {
+                list.add(e);
+            }
+        });
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public List<Entity> getEntitiesInRadius(final Vector2d pos, final double radius) {
+        final List<Entity> list = new ArrayList<>();
+        this.grid.forEachInArea(pos.getDoubleX() - radius, pos.getDoubleY() - radius,
+                pos.getDoubleX() + radius, pos.getDoubleY() + radius, e -> {
+                    // distance from the nearest point of the bounds
+                    final double dx = Math.max(0, Math.max(e.getPos().getDoubleX() - pos.getDoubleX(),
+                            pos.getDoubleX() - e.getPos().getDoubleX() - e.getWidth()));
+                    final double dy = Math.max(0, Math.max(e.getPos().getDoubleY() - pos.getDoubleY(),
+                            pos.getDoubleY() - e.getPos().getDoubleY() - e.getHeight()));
+                    if (dx * dx + dy * dy <= radius * radius) {
+                        list.add(e);
+                    }
+                });
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public Optional<Entity> getNearestEntity(final Vector2d pos, final double radius, final EntityType type) {
+        final Entity[] nearest = new Entity[1];
+        final double[] nearestDistanceSq = {radius * radius};
+        this.grid.forEachInArea(pos.getDoubleX() - radius, pos.getDoubleY() - radius,
+                pos.getDoubleX() + radius, pos.getDoubleY() + radius, e -> {
+                    if (e.getType() != type) {
+                        return;
+                    }
+                    final double dx = e.getPos().getDoubleX() + e.getWidth() / 2d - pos.getDoubleX();
+                    final double dy = e.getPos().getDoubleY() + e.getHeight() / 2d - pos.getDoubleY();
+                    if (dx * dx + dy * dy <= nearestDistanceSq[0]) {
+                        nearest[0] = e;
+                        nearestDistanceSq[0] = dx * dx + dy * dy;
+                    }
+                });
+        return Optional.ofNullable(nearest[0]);
     }
 
     /**
@@ -129,6 +326,13 @@ public final class GameWorld implements World {
      **/
     @Override
     public void addEntity(final Entity entity) {
+        if (this.chunkLoader != null) {
+            final int chunk = this.getChunk(entity.getPos().getDoubleX());
+            if (!this.blocks.isLoaded(chunk)) {
+                this.parked.computeIfAbsent(chunk, c -> new ArrayList<>()).add(entity);
+                return;
+            }
+        }
         this.entities.add(entity);
     }
 
@@ -140,6 +344,84 @@ public final class GameWorld implements World {
         this.entities.remove(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void beginUpdate() {
+        this.entities.beginUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void endUpdate() {
+        this.entities.endUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public EventBus getEventBus() {
+        return this.eventBus;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public BodyStore getBodies() {
+        return this.bodies;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void updateEntity(final Entity entity) {
+        this.grid.update(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void checkCollisions(final long ticks) {
+        // entities removed by the contacts stay in the broadphase until it ends
+        this.entities.beginUpdate();
+        try {
+            this.broadphase.forEachContact(ticks, GameWorld::onContact);
+        } finally {
+            this.entities.endUpdate();
+        }
+    }
+
+    /**
+     * Notify the entity touching the player, layers let only the player touch other entities.
+     *
+     * @param a     the first entity
+     * @param b     the second entity
+     * @param ticks the current game tick
+     */
+    private static void onContact(final Entity a, final Entity b, final long ticks) {
+        final Entity other = a.getCollisionLayer() == CollisionLayer.PLAYER ? b : a;
+        switch (other.getCollisionLayer()) {
+            case ITEM:
+                ((Item) other).onPickup(ticks);
+                break;
+            case ENEMY:
+                ((Enemy) other).onPlayerContact();
+                break;
+            case PROJECTILE:
+                ((Projectile) other).onPlayerHit();
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * {@inheritDoc}
      **/
@@ -148,14 +430,47 @@ public final class GameWorld implements World {
         return this.player;
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public Random getRandom() {
+        return this.random;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
     /**
      * {@inheritDoc}
      **/
     @Override
     public void clear() {
-        this.blocks = new Block[this.getHeight()][this.getWidth()];
-        this.entities = new ArrayList<>();
+        this.blocks = new TileGrid(this.getWidth(), this.getHeight());
+        this.blocksRevision++;
+        this.chunkLoader = null;
+        this.parked = new HashMap<>();
+        this.evicted = new HashSet<>();
+        this.entities = new EntityStore(new StoreListener());
+        this.grid = new SpatialGrid(this.getWidth(), this.getHeight());
+        this.broadphase = new SweepAndPrune();
+        this.bodies = new BodyStore(this);
+        this.random = new Random(this.seed);
         this.player = this.getEntityFactory().createPlayer();
+        this.broadphase.add(this.player);
     }
 
     /**
@@ -166,6 +481,81 @@ public final class GameWorld implements World {
         return new BlockIterator();
     }
 
+    /**
+     * Get the chunk of a x, clamped in the world.
+     *
+     * @param x the x
+     * @return the chunk index
+     */
+    private int getChunk(final double x) {
+        final int chunk = (int) Math.floor(x / (TileGrid.CHUNK_WIDTH * Block.SIZE));
+        return Math.max(0, Math.min(this.blocks.getChunksCount() - 1, chunk));
+    }
+
+    /**
+     * Load the blocks of a chunk and spawn the entities waiting for it.
+     * The chunk is published when all its blocks are set.
+     *
+     * @param chunk the chunk index
+     */
+    private void loadChunk(final int chunk) {
+        this.blocks.beginLoad(chunk);
+        try {
+            this.chunkLoader.loadChunk(chunk);
+        } finally {
+            this.blocks.endLoad();
+        }
+        final List<Entity> waiting = this.parked.remove(chunk);
+        if (waiting != null) {
+            waiting.forEach(this.entities::add);
+        }
+    }
+
+    /**
+     * Drop the blocks of a chunk, its entities are parked until it's loaded again.
+     *
+     * @param chunk the chunk index
+     */
+    private void unloadChunk(final int chunk) {
+        final List<Entity> inside = new ArrayList<>();
+        final double minX = chunk * TileGrid.CHUNK_WIDTH * Block.SIZE;
+        this.grid.forEachInArea(minX, 0, minX + TileGrid.CHUNK_WIDTH * Block.SIZE, this.getHeight() * Block.SIZE, e -> {
+            if (!e.isRemoved() && this.getChunk(e.getPos().getDoubleX()) == chunk) {
+                inside.add(e);
+            }
+        });
+        // taken out after the search, the grid can't change while visiting it
+        this.evicted.addAll(inside);
+        inside.forEach(this.entities::remove);
+        if (!inside.isEmpty()) {
+            this.parked.computeIfAbsent(chunk, c -> new ArrayList<>()).addAll(inside);
+        }
+        this.blocks.unload(chunk);
+    }
+
+    /**
+     * Listener of the store, keeps grid and broadphase in sync and posts the entity events.
+     * Entities taken out with their chunk are parked and unparked, not removed and spawned.
+     */
+    private class StoreListener implements EntityListener {
+
+        @Override
+        public void onSpawn(final Entity entity) {
+            GameWorld.this.grid.add(entity);
+            GameWorld.this.broadphase.add(entity);
+            final boolean unparked = GameWorld.this.evicted.remove(entity);
+            GameWorld.this.eventBus.post(unparked ? GameEvent.ENTITY_UNPARKED : GameEvent.ENTITY_SPAWNED, entity);
+        }
+
+        @Override
+        public void onRemove(final Entity entity) {
+            GameWorld.this.grid.remove(entity);
+            GameWorld.this.broadphase.remove(entity);
+            final boolean parked = GameWorld.this.evicted.contains(entity);
+            GameWorld.this.eventBus.post(parked ? GameEvent.ENTITY_PARKED : GameEvent.ENTITY_REMOVED, entity);
+        }
+    }
+
     /**
      * Simple utility class for the block iterator.
      */
@@ -184,11 +574,11 @@ public final class GameWorld implements World {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            if (this.column >= GameWorld.this.blocks[this.row].length) {
+            if (this.column >= GameWorld.this.getWidth()) {
                 this.column = 0;
                 this.row++;
             }
-            return GameWorld.this.blocks[this.row][this.column++];
+            return GameWorld.this.blocks.get(this.column++, this.row);
         }
     }
 
@@ -6,13 +6,24 @@ import it.unibo.cicciopier.utility.Vector2d;
  * Simple implementation of the interface {@link GameObject}.
  */
 public abstract class SimpleGameObject implements GameObject {
-    private Vector2d pos;
+    private final Vector2d pos;
+    private final Vector2d lastPos;
 
     /**
-     * Constructor for this class, it instantiates pos at 0, 0.
+     * Constructor for this class, it instantiates pos and last pos at 0, 0.
      */
     protected SimpleGameObject() {
-        this.pos = new Vector2d(0, 0);
+        this(new Vector2d(0, 0));
+    }
+
+    /**
+     * Constructor for this class, it keeps the position in the given vector.
+     *
+     * @param pos the vector of the position
+     */
+    protected SimpleGameObject(final Vector2d pos) {
+        this.pos = pos;
+        this.lastPos = new Vector2d(pos.getDoubleX(), pos.getDoubleY());
     }
 
     /**
@@ -28,7 +39,25 @@ public abstract class SimpleGameObject implements GameObject {
      */
     @Override
     public void setPos(final Vector2d pos) {
-        this.pos = pos;
+        this.pos.set(pos.getDoubleX(), pos.getDoubleY());
+        // a new position is a teleport, don't interpolate it
+        this.updateLastPos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector2d getLastPos() {
+        return this.lastPos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateLastPos() {
+        this.lastPos.set(this.pos.getDoubleX(), this.pos.getDoubleY());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,267 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Uniform grid of the world where every entity is stored in the cells its bounds overlap,
+ * so the entities near a point are found looking only at a few cells.
+ * Entities outside the world are stored in the cells on the border.
+ */
+public final class SpatialGrid {
+    /**
+     * Size of a cell side.
+     */
+    public static final int CELL_SIZE = 4 * Block.SIZE;
+    private final int columns;
+    private final int rows;
+    private final List<List<Entry>> cells;
+    private final Map<Entity, Entry> entries;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param width  the width of the world in blocks
+     * @param height the height of the world in blocks
+     */
+    public SpatialGrid(final int width, final int height) {
+        this.columns = Math.max(1, (width * Block.SIZE + CELL_SIZE - 1) / CELL_SIZE);
+        this.rows = Math.max(1, (height * Block.SIZE + CELL_SIZE - 1) / CELL_SIZE);
+        this.cells = new ArrayList<>(this.columns * this.rows);
+        for (int i = 0; i < this.columns * this.rows; i++) {
+            this.cells.add(new ArrayList<>());
+        }
+        this.entries = new IdentityHashMap<>();
+    }
+
+    /**
+     * Add an entity in the cells of its bounds.
+     *
+     * @param entity the entity
+     */
+    public void add(final Entity entity) {
+        if (this.entries.containsKey(entity)) {
+            return;
+        }
+        final Entry entry = new Entry(entity);
+        this.setCells(entry);
+        this.entries.put(entity, entry);
+        this.forEachCell(entry, cell -> cell.add(entry));
+    }
+
+    /**
+     * Remove an entity from its cells.
+     *
+     * @param entity the entity
+     */
+    public void remove(final Entity entity) {
+        final Entry entry = this.entries.remove(entity);
+        if (entry != null) {
+            this.forEachCell(entry, cell -> cell.remove(entry));
+        }
+    }
+
+    /**
+     * Move an entity in the cells of its current bounds, if they changed.
+     * Entities not in the grid are ignored.
+     *
+     * @param entity the entity
+     */
+    public void update(final Entity entity) {
+        final Entry entry = this.entries.get(entity);
+        if (entry == null) {
+            return;
+        }
+        final int minColumn = entry.minColumn;
+        final int minRow = entry.minRow;
+        final int maxColumn = entry.maxColumn;
+        final int maxRow = entry.maxRow;
+        this.setCells(entry);
+        if (minColumn == entry.minColumn && minRow == entry.minRow
+                && maxColumn == entry.maxColumn && maxRow == entry.maxRow) {
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                if (!entry.contains(column, row)) {
+                    this.getCell(column, row).remove(entry);
+                }
+            }
+        }
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                if (column < minColumn || column > maxColumn || row < minRow || row > maxRow) {
+                    this.getCell(column, row).add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every entity stored in the cells overlapping an area, each one once.
+     * Entities are candidates, their bounds may not intersect the area.
+     *
+     * @param minX   the left of the area
+     * @param minY   the top of the area
+     * @param maxX   the right of the area
+     * @param maxY   the bottom of the area
+     * @param action the action executed for each entity
+     */
+    public void forEachInArea(final double minX, final double minY, final double maxX, final double maxY,
+                              final Consumer<Entity> action) {
+        final int minColumn = this.getColumn(minX);
+        final int minRow = this.getRow(minY);
+        final int maxColumn = this.getColumn(maxX);
+        final int maxRow = this.getRow(maxY);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (final Entry entry : this.getCell(column, row)) {
+                    if (SpatialGrid.isFirstCell(entry, column, row, minColumn, minRow)) {
+                        action.accept(entry.entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Add to a list every entity stored in the cells overlapping an area, each one once.
+     * Same as {@link #forEachInArea(double, double, double, double, Consumer)}, without allocating.
+     *
+     * @param minX   the left of the area
+     * @param minY   the top of the area
+     * @param maxX   the right of the area
+     * @param maxY   the bottom of the area
+     * @param result the list where the entities are added
+     */
+    public void collectInArea(final double minX, final double minY, final double maxX, final double maxY,
+                              final List<Entity> result) {
+        final int minColumn = this.getColumn(minX);
+        final int minRow = this.getRow(minY);
+        final int maxColumn = this.getColumn(maxX);
+        final int maxRow = this.getRow(maxY);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                final List<Entry> cell = this.getCell(column, row);
+                for (int i = 0; i < cell.size(); i++) {
+                    final Entry entry = cell.get(i);
+                    if (SpatialGrid.isFirstCell(entry, column, row, minColumn, minRow)) {
+                        result.add(entry.entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a cell is the first one an entity shares with an area,
+     * so an entity in more cells is visited only once.
+     *
+     * @param entry     the entry of the entity
+     * @param column    the column of the cell
+     * @param row       the row of the cell
+     * @param minColumn the first column of the area
+     * @param minRow    the first row of the area
+     * @return true if it's the first shared cell
+     */
+    private static boolean isFirstCell(final Entry entry, final int column, final int row,
+                                       final int minColumn, final int minRow) {
+        return column == Math.max(minColumn, entry.minColumn) && row == Math.max(minRow, entry.minRow);
+    }
+
+    /**
+     * Compute the cells overlapped by the bounds of an entity.
+     *
+     * @param entry the entry of the entity
+     */
+    private void setCells(final Entry entry) {
+        final Entity e = entry.entity;
+        entry.minColumn = this.getColumn(e.getPos().getDoubleX());
+        entry.minRow = this.getRow(e.getPos().getDoubleY());
+        entry.maxColumn = this.getColumn(e.getPos().getDoubleX() + e.getWidth());
+        entry.maxRow = this.getRow(e.getPos().getDoubleY() + e.getHeight());
+    }
+
+    /**
+     * Execute an action on every cell of an entity.
+     *
+     * @param entry  the entry of the entity
+     * @param action the action
+     */
+    private void forEachCell(final Entry entry, final Consumer<List<Entry>> action) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                action.accept(this.getCell(column, row));
+            }
+        }
+    }
+
+    /**
+     * Get the column of a x, clamped in the grid.
+     *
+     * @param x the x
+     * @return the column
+     */
+    private int getColumn(final double x) {
+        return (int) Math.max(0, Math.min(this.columns - 1, Math.floor(x / CELL_SIZE)));
+    }
+
+    /**
+     * Get the row of a y, clamped in the grid.
+     *
+     * @param y the y
+     * @return the row
+     */
+    private int getRow(final double y) {
+        return (int) Math.max(0, Math.min(this.rows - 1, Math.floor(y / CELL_SIZE)));
+    }
+
+    /**
+     * Get a cell.
+     *
+     * @param column the column
+     * @param row    the row
+     * @return the entries in the cell
+     */
+    private List<Entry> getCell(final int column, final int row) {
+        return this.cells.get(row * this.columns + column);
+    }
+
+    /**
+     * An entity with the cells it's stored in.
+     */
+    private static final class Entry {
+        private final Entity entity;
+        private int minColumn;
+        private int minRow;
+        private int maxColumn;
+        private int maxRow;
+
+        /**
+         * Constructor for this class.
+         *
+         * @param entity the entity
+         */
+        private Entry(final Entity entity) {
+            this.entity = entity;
+        }
+
+        /**
+         * Check if the entity is stored in a cell.
+         *
+         * @param column the column
+         * @param row    the row
+         * @return true if it's in the cell
+         */
+        private boolean contains(final int column, final int row) {
+            return column >= this.minColumn && column <= this.maxColumn && row >= this.minRow && row <= this.maxRow;
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Broadphase that finds the entities touching each other, sorting their bounds along the x
+ * and sweeping them, so only the entities overlapping on the x are compared.
+ * Entities stay in the same array between ticks, they're almost sorted already
+ * and an insertion sort puts them back in order without allocating.
+ * Every entity knows its index in the array, so it's removed swapping it with the last one
+ * and the next sort fixes the order.
+ * Entities on the {@link CollisionLayer#NONE} layer are ignored.
+ */
+public final class SweepAndPrune {
+    private static final int INITIAL_CAPACITY = 64;
+    private Entity[] bodies;
+    private int size;
+
+    /**
+     * Constructor for this class.
+     */
+    public SweepAndPrune() {
+        this.bodies = new Entity[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Add an entity, if its layer touches something.
+     *
+     * @param entity the entity
+     */
+    public void add(final Entity entity) {
+        if (entity.getCollisionLayer().getMask() == 0) {
+            return;
+        }
+        if (this.size == this.bodies.length) {
+            this.bodies = Arrays.copyOf(this.bodies, this.size * 2);
+        }
+        entity.setBroadphaseIndex(this.size);
+        this.bodies[this.size++] = entity;
+    }
+
+    /**
+     * Remove an entity.
+     *
+     * @param entity the entity
+     */
+    public void remove(final Entity entity) {
+        final int index = entity.getBroadphaseIndex();
+        if (index == Entity.NO_INDEX || index >= this.size || this.bodies[index] != entity) {
+            return;
+        }
+        this.size--;
+        final Entity last = this.bodies[this.size];
+        this.bodies[this.size] = null;
+        if (last != entity) {
+            this.bodies[index] = last;
+            last.setBroadphaseIndex(index);
+        }
+        entity.setBroadphaseIndex(Entity.NO_INDEX);
+    }
+
+    /**
+     * Find every pair of entities whose bounds intersect and whose layers touch,
+     * entities already removed are skipped.
+     *
+     * @param ticks    the current game tick
+     * @param listener the listener notified for each pair
+     */
+    public void forEachContact(final long ticks, final ContactListener listener) {
+        this.sort();
+        for (int i = 0; i < this.size; i++) {
+            final Entity a = this.bodies[i];
+            if (a.isRemoved()) {
+                continue;
+            }
+            final int maxX = a.getPos().getX() + a.getWidth();
+            for (int j = i + 1; j < this.size && this.bodies[j].getPos().getX() < maxX; j++) {
+                final Entity b = this.bodies[j];
+                if (!b.isRemoved()
+                        && (a.getCollisionLayer().touches(b.getCollisionLayer())
+                        || b.getCollisionLayer().touches(a.getCollisionLayer()))
+                        && SweepAndPrune.intersects(a, b)) {
+                    listener.onContact(a, b, ticks);
+                    // the listener can remove the first entity
+                    if (a.isRemoved()) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sort the entities by their x, keeping their indexes.
+     */
+    private void sort() {
+        for (int i = 1; i < this.size; i++) {
+            final Entity e = this.bodies[i];
+            final int x = e.getPos().getX();
+            int j = i - 1;
+            while (j >= 0 && this.bodies[j].getPos().getX() > x) {
+                this.bodies[j + 1] = this.bodies[j];
+                this.bodies[j + 1].setBroadphaseIndex(j + 1);
+                j--;
+            }
+            this.bodies[j + 1] = e;
+            e.setBroadphaseIndex(j + 1);
+        }
+    }
+
+    /**
+     * Check if the bounds of two entities intersect, like {@link java.awt.Rectangle#intersects}.
+     *
+     * @param a the first entity, with the lower x
+     * @param b the second entity
+     * @return true if they intersect
+     */
+    private static boolean intersects(final Entity a, final Entity b) {
+        return a.getWidth() > 0 && a.getHeight() > 0 && b.getWidth() > 0 && b.getHeight() > 0
+                && b.getPos().getX() < a.getPos().getX() + a.getWidth()
+                && b.getPos().getY() < a.getPos().getY() + a.getHeight()
+                && a.getPos().getY() < b.getPos().getY() + b.getHeight();
+    }
+
+    /**
+     * Listener of the contacts found by the broadphase.
+     */
+    @FunctionalInterface
+    public interface ContactListener {
+
+        /**
+         * Called when two entities touch.
+         *
+         * @param a     the first entity
+         * @param b     the second entity
+         * @param ticks the current game tick
+         */
+        void onContact(Entity a, Entity b, long ticks);
+    }
+
+}
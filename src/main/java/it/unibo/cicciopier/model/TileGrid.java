@@ -0,0 +1,292 @@
+package it.unibo.cicciopier.model;
+
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.blocks.base.BlockType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compact store of the blocks in the {@link World}, every tile is the ordinal of its {@link BlockType}
+ * plus a bit telling if it's solid.
+ * Blocks of the same type are shared between the tiles, so they can't know their position,
+ * it's derived from the coordinates of the tile.
+ * Only the blocks you can interact with are kept one per tile, in a sparse map.
+ * Tiles are grouped in chunks of {@link #CHUNK_WIDTH} columns, a chunk is allocated when one of its
+ * tiles is set and can be unloaded, its tiles are empty until they're set again.
+ * Every chunk has a revision, changed when one of its tiles is set or when it's loaded or unloaded.
+ * The grid is changed by the game thread only, but it can be read by any thread:
+ * chunks and revisions are published through atomic arrays, and a chunk loaded with
+ * {@link #beginLoad(int)} is published only when it's complete.
+ */
+public final class TileGrid {
+    /**
+     * Width of a chunk in blocks.
+     */
+    public static final int CHUNK_WIDTH = 16;
+    private static final short EMPTY = -1;
+    private final int width;
+    private final int height;
+    private final AtomicReferenceArray<Chunk> chunks;
+    private final AtomicIntegerArray revisions;
+    private final Block[] shared;
+    private Chunk loading;
+    private int loadingIndex;
+    private int loaded;
+    private long uses;
+
+    /**
+     * Constructor for this class, every tile starts empty.
+     *
+     * @param width  the width of the world in blocks
+     * @param height the height of the world in blocks
+     */
+    public TileGrid(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.chunks = new AtomicReferenceArray<>((width + CHUNK_WIDTH - 1) / CHUNK_WIDTH);
+        this.revisions = new AtomicIntegerArray(this.chunks.length());
+        this.shared = new Block[BlockType.values().length];
+        this.loading = null;
+        this.loadingIndex = -1;
+        this.loaded = 0;
+        this.uses = 0;
+    }
+
+    /**
+     * Get the block of a tile.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the block, null if the tile is empty, unloaded or outside the grid
+     */
+    public Block get(final int x, final int y) {
+        if (!this.contains(x, y)) {
+            return null;
+        }
+        final Chunk chunk = this.chunks.get(x / CHUNK_WIDTH);
+        if (chunk == null) {
+            return null;
+        }
+        final int index = y * CHUNK_WIDTH + x % CHUNK_WIDTH;
+        final short type = chunk.types[index];
+        if (type == EMPTY) {
+            return null;
+        }
+        final Block block = this.shared[type];
+        return block != null ? block : chunk.interactive.get(index);
+    }
+
+    /**
+     * Set the block of a tile, loading its chunk.
+     * The first block of a type you can't interact with is shared by every tile of that type.
+     *
+     * @param x     the column
+     * @param y     the row
+     * @param block the block, null to empty the tile
+     */
+    public void set(final int x, final int y, final Block block) {
+        final int column = x / CHUNK_WIDTH;
+        final Chunk chunk = column == this.loadingIndex ? this.loading : this.getOrLoad(column);
+        final int index = y * CHUNK_WIDTH + x % CHUNK_WIDTH;
+        chunk.interactive.remove(index);
+        if (block == null) {
+            chunk.types[index] = EMPTY;
+            chunk.solid.clear(index);
+        } else {
+            final int type = block.getType().ordinal();
+            if (block.canInteract()) {
+                chunk.interactive.put(index, block);
+            } else if (this.shared[type] == null) {
+                this.shared[type] = block;
+            }
+            chunk.types[index] = (short) type;
+            chunk.solid.set(index, block.isSolid());
+        }
+        // a chunk being loaded changes its revision when it's published
+        if (column != this.loadingIndex) {
+            this.revisions.incrementAndGet(column);
+        }
+    }
+
+    /**
+     * Check if a tile is solid, without looking up its block.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if solid, false if not solid, empty, unloaded or outside the grid
+     */
+    public boolean isSolid(final int x, final int y) {
+        if (!this.contains(x, y)) {
+            return false;
+        }
+        final Chunk chunk = this.chunks.get(x / CHUNK_WIDTH);
+        return chunk != null && chunk.solid.get(y * CHUNK_WIDTH + x % CHUNK_WIDTH);
+    }
+
+    /**
+     * Get the number of chunks in the grid.
+     *
+     * @return the number of chunks
+     */
+    public int getChunksCount() {
+        return this.chunks.length();
+    }
+
+    /**
+     * Get the number of chunks allocated.
+     *
+     * @return the number of loaded chunks
+     */
+    public int getLoadedCount() {
+        return this.loaded;
+    }
+
+    /**
+     * Check if a chunk is allocated, or being loaded.
+     *
+     * @param chunk the chunk index
+     * @return true if loaded
+     */
+    public boolean isLoaded(final int chunk) {
+        return chunk == this.loadingIndex || this.chunks.get(chunk) != null;
+    }
+
+    /**
+     * Get the revision of a chunk.
+     *
+     * @param chunk the chunk index
+     * @return the revision
+     */
+    public int getRevision(final int chunk) {
+        return this.revisions.get(chunk);
+    }
+
+    /**
+     * Mark a loaded chunk as the most recently used one.
+     *
+     * @param chunk the chunk index
+     */
+    public void use(final int chunk) {
+        final Chunk loadedChunk = this.chunks.get(chunk);
+        if (loadedChunk != null) {
+            loadedChunk.lastUse = ++this.uses;
+        }
+    }
+
+    /**
+     * Find the loaded chunk used least recently.
+     *
+     * @return the chunk index, -1 if no chunk is loaded
+     */
+    public int getLeastRecentlyUsed() {
+        int eldest = -1;
+        long eldestUse = Long.MAX_VALUE;
+        for (int i = 0; i < this.chunks.length(); i++) {
+            final Chunk chunk = this.chunks.get(i);
+            if (chunk != null && chunk.lastUse < eldestUse) {
+                eldest = i;
+                eldestUse = chunk.lastUse;
+            }
+        }
+        return eldest;
+    }
+
+    /**
+     * Drop the tiles of a chunk.
+     *
+     * @param chunk the chunk index
+     */
+    public void unload(final int chunk) {
+        if (this.chunks.getAndSet(chunk, null) != null) {
+            this.loaded--;
+            this.revisions.incrementAndGet(chunk);
+        }
+    }
+
+    /**
+     * Start loading a chunk that isn't loaded, with every tile empty.
+     * Its tiles can be set, but it's empty for the readers until {@link #endLoad()}.
+     *
+     * @param chunk the chunk index
+     */
+    public void beginLoad(final int chunk) {
+        if (this.loadingIndex >= 0) {
+            throw new IllegalStateException("Chunk " + this.loadingIndex + " is already loading");
+        }
+        this.loading = new Chunk(this.height);
+        this.loadingIndex = chunk;
+    }
+
+    /**
+     * Publish the chunk being loaded.
+     */
+    public void endLoad() {
+        if (this.loadingIndex < 0) {
+            throw new IllegalStateException("No chunk is loading");
+        }
+        final int chunk = this.loadingIndex;
+        this.loading.lastUse = ++this.uses;
+        this.chunks.set(chunk, this.loading);
+        this.loaded++;
+        this.loading = null;
+        this.loadingIndex = -1;
+        this.revisions.incrementAndGet(chunk);
+    }
+
+    /**
+     * Get a chunk, allocating it if it's not loaded.
+     *
+     * @param chunk the chunk index
+     * @return the chunk
+     */
+    private Chunk getOrLoad(final int chunk) {
+        Chunk loadedChunk = this.chunks.get(chunk);
+        if (loadedChunk == null) {
+            loadedChunk = new Chunk(this.height);
+            loadedChunk.lastUse = ++this.uses;
+            this.chunks.set(chunk, loadedChunk);
+            this.loaded++;
+        }
+        return loadedChunk;
+    }
+
+    /**
+     * Check if a tile is inside the grid.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if inside
+     */
+    private boolean contains(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < this.width && y < this.height;
+    }
+
+    /**
+     * Tiles of {@link #CHUNK_WIDTH} columns.
+     */
+    private static final class Chunk {
+        private final short[] types;
+        private final BitSet solid;
+        private final Map<Integer, Block> interactive;
+        private long lastUse;
+
+        /**
+         * Constructor for this class, every tile starts empty.
+         *
+         * @param height the height of the world in blocks
+         */
+        private Chunk(final int height) {
+            this.types = new short[CHUNK_WIDTH * height];
+            Arrays.fill(this.types, EMPTY);
+            this.solid = new BitSet(CHUNK_WIDTH * height);
+            // set on the game thread while a renderer can read it
+            this.interactive = new ConcurrentHashMap<>();
+        }
+    }
+
+}
@@ -5,10 +5,16 @@ import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.EntityFactory;
 import it.unibo.cicciopier.model.entities.Player;
 import it.unibo.cicciopier.model.entities.base.Entity;
+import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.model.events.EventBus;
 import it.unibo.cicciopier.utility.Vector2d;
 
+import java.awt.*;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Contains game objects, like blocks, entities and player.
@@ -59,10 +65,12 @@ public interface World extends Iterable<Block> {
 
     /**
      * Get the block at the specific coordinates.
+     * Blocks you can't interact with are shared by every tile of their type,
+     * so their position is given by the coordinates and not by {@link Block#getPos()}.
      *
      * @param x pos x
      * @param y pos y
-     * @return the block
+     * @return the block, null if there's none
      */
     Block getBlock(final int x, final int y);
 
@@ -75,6 +83,61 @@ public interface World extends Iterable<Block> {
      */
     void setBlock(final int x, final int y, final Block block);
 
+    /**
+     * Check if the block at the specific coordinates is solid.
+     *
+     * @param x pos x
+     * @param y pos y
+     * @return true if solid, false if not solid or there's no block
+     */
+    boolean isSolid(final int x, final int y);
+
+    /**
+     * Get the revision of the blocks, it changes every time the world is reset.
+     *
+     * @return the revision
+     */
+    int getBlocksRevision();
+
+    /**
+     * Get the revision of a chunk of {@link TileGrid#CHUNK_WIDTH} columns,
+     * it changes every time one of its blocks is set or it's loaded or unloaded.
+     * It can be read by any thread, a chunk is seen only when it's completely loaded.
+     *
+     * @param chunk the chunk index
+     * @return the revision
+     */
+    int getChunkRevision(final int chunk);
+
+    /**
+     * Stream the blocks from a loader instead of keeping the whole level in memory.
+     * From now on the chunks are loaded only around the x given to {@link #streamChunks(double)},
+     * and entities added in a chunk not loaded wait for it before spawning.
+     *
+     * @param loader the loader of the chunks
+     */
+    void setChunkLoader(final ChunkLoader loader);
+
+    /**
+     * Load the chunks near a position and unload the ones used least recently when too many are loaded.
+     * Entities in an unloaded chunk are parked out of the world, and unparked when it's loaded again.
+     * Does nothing if there's no {@link ChunkLoader}.
+     *
+     * @param x the x of the position, usually the player one
+     */
+    void streamChunks(final double x);
+
+    /**
+     * Check if the blocks between two x, and the chunks next to them, are loaded,
+     * so an entity there finds the tiles it can move to.
+     * Always true if there's no {@link ChunkLoader}.
+     *
+     * @param minX the left x
+     * @param maxX the right x
+     * @return true if loaded
+     */
+    boolean isAreaLoaded(final double minX, final double maxX);
+
     /**
      * Get a list containing the entities of this world.
      *
@@ -82,6 +145,24 @@ public interface World extends Iterable<Block> {
      */
     List<Entity> getEntities();
 
+    /**
+     * Execute an action on every entity without copying them, inside an update.
+     *
+     * @param action the action
+     * @see #beginUpdate()
+     */
+    void forEachEntity(final Consumer<Entity> action);
+
+    /**
+     * Execute an action on every entity, in parallel on levels with many entities.
+     * The action must only read the world and write the entity it's given,
+     * entities can't be added or removed until it's done.
+     *
+     * @param action the action
+     * @see Entity#think(long)
+     */
+    void forEachEntityParallel(final Consumer<Entity> action);
+
     /**
      * Get a list containing the entities in a certain range.
      *
@@ -92,19 +173,97 @@ public interface World extends Iterable<Block> {
     List<Entity> getEntitiesInRange(final Vector2d pos, final int radius);
 
     /**
-     * Add an entity to this world.
+     * Fill a list with the entities in a certain range, without allocating.
+     * The list is cleared first, so it can be reused by every query.
+     *
+     * @param pos    the starting position
+     * @param radius the radius
+     * @param result the list where the entities are stored
+     */
+    void getEntitiesInRange(final Vector2d pos, final int radius, final List<Entity> result);
+
+    /**
+     * Get a list containing the entities whose bounds intersect an area.
+     *
+     * @param area the area
+     * @return the list
+     */
+    List<Entity> getEntitiesInArea(final Rectangle area);
+
+    /**
+     * Get a list containing the entities whose bounds are within a distance from a point.
+     *
+     * @param pos    the point
+     * @param radius the distance
+     * @return the list
+     */
+    List<Entity> getEntitiesInRadius(final Vector2d pos, final double radius);
+
+    /**
+     * Get the entity of a type whose center is the nearest to a point, within a distance.
+     *
+     * @param pos    the point
+     * @param radius the max distance
+     * @param type   the type
+     * @return the nearest entity, empty if there's no entity of that type in the radius
+     */
+    Optional<Entity> getNearestEntity(final Vector2d pos, final double radius, final EntityType type);
+
+    /**
+     * Update the position of an entity in the world, called after it moved.
+     *
+     * @param entity the entity
+     */
+    void updateEntity(final Entity entity);
+
+    /**
+     * Find the entities touching each other and notify them, called every tick after the entities moved.
+     * The player picks up items, is attacked by enemies and is hit by projectiles.
+     *
+     * @param ticks the current game tick
+     */
+    void checkCollisions(final long ticks);
+
+    /**
+     * Add an entity to this world, at the end of the update if one is running.
      *
      * @param entity the entity
      */
     void addEntity(final Entity entity);
 
     /**
-     * Remove an entity from this world.
+     * Remove an entity from this world, at the end of the update if one is running.
      *
      * @param entity the entity
      */
     void removeEntity(final Entity entity);
 
+    /**
+     * Start an update of the entities, called by the engine before ticking them.
+     * Until {@link #endUpdate()} added and removed entities are queued.
+     */
+    void beginUpdate();
+
+    /**
+     * End an update of the entities, adding and removing the queued ones.
+     */
+    void endUpdate();
+
+    /**
+     * Get the bus of the events happening in this world.
+     * Entities are posted when they're actually added and removed, see {@link #endUpdate()}.
+     *
+     * @return the event bus
+     */
+    EventBus getEventBus();
+
+    /**
+     * Get the store of the physics bodies of the moving entities, reset by {@link #clear()}.
+     *
+     * @return the body store
+     */
+    BodyStore getBodies();
+
     /**
      * Get the player.
      *
@@ -112,6 +271,28 @@ public interface World extends Iterable<Block> {
      */
     Player getPlayer();
 
+    /**
+     * Get the source of random numbers of the level, every entity must use it,
+     * so the same seed and the same input give the same game.
+     *
+     * @return the random
+     */
+    Random getRandom();
+
+    /**
+     * Get the seed the random is reset with by {@link #clear()}.
+     *
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Set the seed the random is reset with by {@link #clear()}.
+     *
+     * @param seed the seed
+     */
+    void setSeed(final long seed);
+
     /**
      * Reset the world.
      */
@@ -4,12 +4,23 @@ import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.blocks.base.BlockType;
 import it.unibo.cicciopier.model.blocks.base.SimpleBlock;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Simple implementation of the interface {@link BlockFactory}.
+ * Blocks you can't interact with have no state, one block for each type is created and shared.
  */
 public class SimpleBlockFactory implements BlockFactory {
+    private final Map<BlockType, Block> shared;
+
+    /**
+     * Constructor for this class.
+     */
+    public SimpleBlockFactory() {
+        this.shared = new EnumMap<>(BlockType.class);
+    }
 
     /**
      * {@inheritDoc}
@@ -21,7 +32,7 @@ public class SimpleBlockFactory implements BlockFactory {
                 || type == BlockType.PORTAL) {
             return Optional.of(new VictoryBlock(type));
         }
-        return Optional.of(new SimpleBlock(type));
+        return Optional.of(this.shared.computeIfAbsent(type, SimpleBlock::new));
     }
 
 }
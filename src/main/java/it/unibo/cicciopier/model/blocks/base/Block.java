@@ -39,13 +39,6 @@ public interface Block extends GameObject {
      */
     BlockType getType();
 
-    /**
-     * Set the type of the block.
-     *
-     * @param type the new type
-     */
-    void setType(final BlockType type);
-
     /**
      * Check if this block is solid or entities can pass through it.
      *
@@ -1,6 +1,7 @@
 package it.unibo.cicciopier.model.blocks.base;
 
 import it.unibo.cicciopier.model.SimpleGameObject;
+import it.unibo.cicciopier.utility.Vector2d;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.blocks.BlockView;
 
@@ -9,7 +10,7 @@ import it.unibo.cicciopier.view.blocks.BlockView;
  */
 public class SimpleBlock extends SimpleGameObject implements Block {
     private final BlockView view;
-    private BlockType type;
+    private final BlockType type;
 
     /**
      * Constructor for this class, it instantiates a block with the specific {@link BlockType}.
@@ -32,10 +33,16 @@ public class SimpleBlock extends SimpleGameObject implements Block {
 
     /**
      * {@inheritDoc}
+     * Blocks you can't interact with are shared by every tile of their type, so they have no position.
+     *
+     * @throws UnsupportedOperationException if the block can't be interacted with
      */
     @Override
-    public void setType(final BlockType type) {
-        this.type = type;
+    public void setPos(final Vector2d pos) {
+        if (!this.canInteract()) {
+            throw new UnsupportedOperationException("Shared blocks have no position");
+        }
+        super.setPos(pos);
     }
 
     /**
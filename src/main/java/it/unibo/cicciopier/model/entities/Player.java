@@ -1,5 +1,6 @@
 package it.unibo.cicciopier.model.entities;
 
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
 import it.unibo.cicciopier.model.entities.base.LivingEntity;
 
 /**
@@ -131,4 +132,12 @@ public interface Player extends LivingEntity {
      * Let the player win the game.
      */
     void win();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER;
+    }
 }
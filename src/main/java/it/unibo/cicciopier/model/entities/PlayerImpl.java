@@ -10,10 +10,13 @@ import it.unibo.cicciopier.model.entities.base.EntityType;
 import it.unibo.cicciopier.model.entities.base.LivingEntity;
 import it.unibo.cicciopier.model.entities.base.SimpleLivingEntity;
 import it.unibo.cicciopier.model.entities.enemies.EnemyState;
+import it.unibo.cicciopier.model.events.GameEvent;
 import it.unibo.cicciopier.utility.Vector2d;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.entities.PlayerView;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class PlayerImpl extends SimpleLivingEntity implements Player {
@@ -22,6 +25,7 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
     private static final int ATTACK_DURATION = 20;
     private static final int SPEED = 4;
     private final PlayerView playerView;
+    private final List<Entity> targets;
     private int attackCooldownTicks;
     private int stamina;
     private int speedModifier;
@@ -50,6 +54,7 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
         this.attackTimer = 0;
         this.won = false;
         this.takenDamage = 0;
+        this.targets = new ArrayList<>();
     }
 
     /**
@@ -93,6 +98,7 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
     @Override
     public void addScore(final int score) {
         this.score += score;
+        this.getWorld().getEventBus().post(GameEvent.SCORE_CHANGED, this, this.score);
     }
 
     /**
@@ -165,15 +171,13 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
         final int y = this.getPos().getY() / Block.SIZE;
         if (this.isFacingRight()) {
             for (int i = startX; i <= endX; i++) {
-                final Block block = this.getWorld().getBlock(i, y);
-                if (block.isSolid()) {
+                if (this.getWorld().isSolid(i, y)) {
                     return true;
                 }
             }
         } else {
             for (int i = startX; i >= endX; i--) {
-                final Block block = this.getWorld().getBlock(i, y);
-                if (block.isSolid()) {
+                if (this.getWorld().isSolid(i, y)) {
                     return true;
                 }
             }
@@ -203,44 +207,51 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
         }
         if (this.attackCooldownTicks == ATTACK_COOLDOWN) {
             this.setCurrentState(EntityState.ATTACKING);
-            final Vector2d playerCenter = this.getPos().addVector(new Vector2d(this.getWidth() / 2d, this.getHeight() / 2d));
-            this.getWorld().getEntitiesInRange(playerCenter, ATTACK_RANGE).stream()
-                    .filter(t -> t instanceof LivingEntity)
-                    .map(LivingEntity.class::cast)
-                    .filter(t -> {
-                        Vector2d enemyCenter = t.getPos().addVector(new Vector2d(t.getWidth() / 2d, t.getHeight() / 2d));
-                        if (t.isDead() || t.getCurrentState() == EnemyState.HIDDEN) {
-                            return false;
-                        }
-                        if (this.blockControl(enemyCenter.getX())) {
-                            return false;
-                        }
-                        if (!this.canSeeEnemy(t, playerCenter)) {
-                            return false;
-                        }
-                        if (this.isFacingRight()) {
-                            return enemyCenter.getX() > playerCenter.getX();
-                        }
-                        return enemyCenter.getX() < playerCenter.getX();
-                    })
-                    .sorted((t1, t2) -> {
-                        if (Math.abs(playerCenter.getX() - t1.getPos().getX()) < Math.abs(playerCenter.getX() - t2.getPos().getX())) {
-                            return -1;
-                        } else if (Math.abs(playerCenter.getX() - t1.getPos().getX()) > Math.abs(playerCenter.getX() - t2.getPos().getX())) {
-                            return 1;
-                        }
-                        return 0;
-                    })
-                    .findFirst()
-                    .ifPresent(t -> {
-                        t.damage(this.getType().getAttackDamage());
-                        Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(EntityType.BITE);
-                        if (opt.isPresent()) {
-                            Entity e = opt.get();
-                            e.setPos(t.getPos().addVector(new Vector2d(-e.getWidth() / 2d + t.getWidth() / 2d, -e.getHeight() / 2d + t.getHeight() / 2d)));
-                            this.getWorld().addEntity(e);
-                        }
-                    });
+            // the centers round the half sizes like addVector did
+            final Vector2d playerCenter = Vector2d.scratch(0);
+            playerCenter.set(this.getPos().getDoubleX() + Math.round(this.getWidth() / 2d),
+                    this.getPos().getDoubleY() + Math.round(this.getHeight() / 2d));
+            final Vector2d enemyCenter = Vector2d.scratch(1);
+            this.getWorld().getEntitiesInRange(playerCenter, ATTACK_RANGE, this.targets);
+            LivingEntity nearest = null;
+            int nearestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < this.targets.size(); i++) {
+                if (!(this.targets.get(i) instanceof LivingEntity)) {
+                    continue;
+                }
+                final LivingEntity t = (LivingEntity) this.targets.get(i);
+                if (t.isDead() || t.getCurrentState() == EnemyState.HIDDEN) {
+                    continue;
+                }
+                enemyCenter.set(t.getPos().getDoubleX() + Math.round(t.getWidth() / 2d),
+                        t.getPos().getDoubleY() + Math.round(t.getHeight() / 2d));
+                if (this.blockControl(enemyCenter.getX()) || !this.canSeeEnemy(t, playerCenter)) {
+                    continue;
+                }
+                if (this.isFacingRight() ? enemyCenter.getX() <= playerCenter.getX()
+                        : enemyCenter.getX() >= playerCenter.getX()) {
+                    continue;
+                }
+                // the first of the nearest ones wins
+                final int distance = Math.abs(playerCenter.getX() - t.getPos().getX());
+                if (distance < nearestDistance) {
+                    nearest = t;
+                    nearestDistance = distance;
+                }
+            }
+            this.targets.clear();
+            if (nearest != null) {
+                nearest.damage(this.getType().getAttackDamage());
+                final Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(EntityType.BITE);
+                if (opt.isPresent()) {
+                    final Entity e = opt.get();
+                    final Vector2d pos = Vector2d.scratch(0);
+                    pos.set(nearest.getPos().getDoubleX() + Math.round(-e.getWidth() / 2d + nearest.getWidth() / 2d),
+                            nearest.getPos().getDoubleY() + Math.round(-e.getHeight() / 2d + nearest.getHeight() / 2d));
+                    e.setPos(pos);
+                    this.getWorld().addEntity(e);
+                }
+            }
             this.attackCooldownTicks = 0;
         }
     }
@@ -280,16 +291,23 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
      * {@inheritDoc}
      */
     @Override
-    public void tick(final long ticks) {
-        super.tick(ticks);
-        this.updateAttackCooldown();
-        this.move();
+    protected void onMoved() {
         //update entity state
         if (this.getVel().getX() != 0) {
             this.setCurrentState(EntityState.RUNNING);
         } else {
             this.setCurrentState(EntityState.IDLE);
         }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void tick(final long ticks) {
+        super.tick(ticks);
+        this.updateAttackCooldown();
+        this.move();
         if (this.takenDamage > 0) {
             this.takenDamage++;
         }
@@ -336,7 +354,7 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
         if (!this.isInvulnerable) {
             super.damage(amount);
             this.takenDamage = 1;
-            AudioController.getInstance().playSound(Sound.DAMAGE);
+            this.getWorld().getEventBus().post(GameEvent.PLAYER_DAMAGED, this, amount);
         }
     }
 
@@ -401,6 +419,9 @@ public class PlayerImpl extends SimpleLivingEntity implements Player {
      */
     @Override
     public void win() {
-        this.won = true;
+        if (!this.won) {
+            this.won = true;
+            this.getWorld().getEventBus().post(GameEvent.LEVEL_WON, this);
+        }
     }
 }
@@ -0,0 +1,92 @@
+package it.unibo.cicciopier.model.entities.base;
+
+import it.unibo.cicciopier.model.blocks.base.Block;
+
+/**
+ * Simple enum that contains how often an Entity is updated, based on its distance from the player
+ * and on the ranges of its {@link EntityType}.
+ * The distance of the culled entities is measured from the view instead, so they live while they can be seen
+ */
+public enum Activation {
+    /**
+     * The entity is near the screen and is updated every tick
+     */
+    AWAKE,
+    /**
+     * The entity is out of the screen and is updated every {@link #WARM_INTERVAL} ticks
+     */
+    WARM,
+    /**
+     * The entity is far from the screen and is not updated
+     */
+    DORMANT;
+
+    /**
+     * Width in blocks of the view, the screen shows 1366 pixels of the world at every 16:9 resolution
+     */
+    public static final int VIEW_WIDTH = 43;
+    /**
+     * Distance in blocks from the view within which the culled entities are awake
+     */
+    public static final int VIEW_MARGIN = 8;
+    /**
+     * Default distance in blocks within which entities are awake, the screen is about 43 blocks wide
+     */
+    public static final int AWAKE_RANGE = 32;
+    /**
+     * Default distance in blocks within which entities are warm
+     */
+    public static final int WARM_RANGE = 64;
+    /**
+     * Range of the entities that are always awake
+     */
+    public static final int ALWAYS = Integer.MAX_VALUE;
+    /**
+     * Number of ticks between two updates of a warm entity
+     */
+    public static final int WARM_INTERVAL = 4;
+
+    /**
+     * Check if an entity with this activation is updated in a tick.
+     * Warm entities of different types are updated in different ticks, to spread their cost
+     *
+     * @param ticks the current game tick
+     * @param type  the type of the entity
+     * @return true if the entity is updated
+     */
+    public boolean isUpdated(final long ticks, final EntityType type) {
+        switch (this) {
+            case AWAKE:
+                return true;
+            case WARM:
+                return (ticks + type.ordinal()) % WARM_INTERVAL == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Get the left of the view, centered on the player and kept inside the level like the cam of the game
+     *
+     * @param center     the x of the center of the player
+     * @param levelWidth the width of the level in pixels
+     * @return the x of the left of the view
+     */
+    public static double getViewLeft(final double center, final double levelWidth) {
+        final double viewWidth = (double) VIEW_WIDTH * Block.SIZE;
+        return Math.max(0, Math.min(levelWidth - viewWidth, center - viewWidth / 2));
+    }
+
+    /**
+     * Get the horizontal distance of an entity from the view
+     *
+     * @param minX     the left of the entity
+     * @param maxX     the right of the entity
+     * @param viewLeft the left of the view
+     * @return the distance, 0 if the entity is partially in the view
+     */
+    public static double getViewDistance(final double minX, final double maxX, final double viewLeft) {
+        final double viewRight = viewLeft + (double) VIEW_WIDTH * Block.SIZE;
+        return Math.max(0, Math.max(viewLeft - maxX, minX - viewRight));
+    }
+}
@@ -0,0 +1,65 @@
+package it.unibo.cicciopier.model.entities.base;
+
+/**
+ * Simple enum that contains the collision layers of the entities,
+ * every layer has a mask of the layers it can touch
+ */
+public enum CollisionLayer {
+    /**
+     * The entity doesn't touch other entities
+     */
+    NONE,
+    /**
+     * The player, touches items, enemies and projectiles
+     */
+    PLAYER,
+    /**
+     * An item, touches the player
+     */
+    ITEM,
+    /**
+     * An enemy, touches the player
+     */
+    ENEMY,
+    /**
+     * A projectile, touches the player
+     */
+    PROJECTILE;
+
+    /**
+     * Get the bit of this layer
+     *
+     * @return the bit, 0 for {@link #NONE}
+     */
+    public int getBit() {
+        return this == NONE ? 0 : 1 << this.ordinal();
+    }
+
+    /**
+     * Get the bits of the layers touched by this layer
+     *
+     * @return the mask
+     */
+    public int getMask() {
+        switch (this) {
+            case PLAYER:
+                return ITEM.getBit() | ENEMY.getBit() | PROJECTILE.getBit();
+            case ITEM:
+            case ENEMY:
+            case PROJECTILE:
+                return PLAYER.getBit();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Check if this layer touches another one
+     *
+     * @param layer the other layer
+     * @return true if they touch
+     */
+    public boolean touches(final CollisionLayer layer) {
+        return (this.getMask() & layer.getBit()) != 0;
+    }
+}
@@ -7,6 +7,10 @@ import it.unibo.cicciopier.model.GameObject;
  * Represents an interactive static GameObject
  */
 public interface Entity extends GameObject {
+    /**
+     * Index of an Entity not kept by a store
+     */
+    int NO_INDEX = -1;
 
     /**
      * Returns the type of the Entity
@@ -40,6 +44,17 @@ public interface Entity extends GameObject {
      */
     void remove();
 
+    /**
+     * Called every game cycle before {@link #tick(long)}, possibly on another thread at the same time
+     * as the other entities, so it must only read the world and write the state of this Entity:
+     * spawns, removals, damage, sounds and random numbers belong to the tick
+     *
+     * @param ticks {@link Engine#getTicks()}
+     */
+    default void think(final long ticks) {
+        // do nothing
+    }
+
     /**
      * Called every game cycle to update the Entity
      *
@@ -47,4 +62,55 @@ public interface Entity extends GameObject {
      */
     void tick(final long ticks);
 
+    /**
+     * Get how often the Entity is updated, set every tick by the engine
+     *
+     * @return the activation, {@link Activation#AWAKE} until the first tick
+     */
+    Activation getActivation();
+
+    /**
+     * Set how often the Entity is updated
+     *
+     * @param activation the activation
+     */
+    void setActivation(final Activation activation);
+
+    /**
+     * Get the index of the Entity in the {@link it.unibo.cicciopier.model.EntityStore} of the world
+     *
+     * @return the index, {@link #NO_INDEX} if not in the store
+     */
+    int getStoreIndex();
+
+    /**
+     * Set the index of the Entity in the store, only called by the store
+     *
+     * @param index the index
+     */
+    void setStoreIndex(final int index);
+
+    /**
+     * Get the index of the Entity in the {@link it.unibo.cicciopier.model.SweepAndPrune} of the world
+     *
+     * @return the index, {@link #NO_INDEX} if not in the broadphase
+     */
+    int getBroadphaseIndex();
+
+    /**
+     * Set the index of the Entity in the broadphase, only called by the broadphase
+     *
+     * @param index the index
+     */
+    void setBroadphaseIndex(final int index);
+
+    /**
+     * Get the layer used to find the entities this one touches
+     *
+     * @return the collision layer, {@link CollisionLayer#NONE} by default
+     */
+    default CollisionLayer getCollisionLayer() {
+        return CollisionLayer.NONE;
+    }
+
 }
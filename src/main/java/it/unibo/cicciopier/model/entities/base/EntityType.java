@@ -1,5 +1,6 @@
 package it.unibo.cicciopier.model.entities.base;
 
+import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.Stamina;
 
 /**
@@ -9,19 +10,19 @@ public enum EntityType {
     /**
      * Represents the Player
      */
-    PLAYER(32, 64, 1000, 60),
+    PLAYER(32, 64, 1000, 60, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents the Missile that the enemy will launch
      */
-    MISSILE(10, 10, 0, 80),
+    MISSILE(10, 10, 0, 80, Activation.VIEW_MARGIN, Activation.VIEW_MARGIN, true),
     /**
      * Represents a meteor from boss attack
      */
-    METEOR(64, 64, 0, 60),
+    METEOR(64, 64, 0, 60, Activation.VIEW_MARGIN, Activation.VIEW_MARGIN, true),
     /**
      * Represents the laser that the Boss will shoot
      */
-    LASER(0, 0, 0, 10),
+    LASER(0, 0, 0, 10, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents a coin
      */
@@ -41,23 +42,23 @@ public enum EntityType {
     /**
      * Represents jumping power-up
      */
-    JUMP_BOOST(14, 32, 0, 0),
+    JUMP_BOOST(14, 32, 0, 0, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents jumping power-up
      */
-    SPEED_BOOST(14, 32, 0, 0),
+    SPEED_BOOST(14, 32, 0, 0, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents jumping power-up
      */
-    INVULNERABILITY_BOOST(14, 32, 0, 0),
+    INVULNERABILITY_BOOST(14, 32, 0, 0, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents an explosion
      */
-    EXPLOSION(64, 64, 0, 0),
+    EXPLOSION(64, 64, 0, 0, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents a bite attack
      */
-    BITE(128, 128, 0, 0),
+    BITE(128, 128, 0, 0, Activation.ALWAYS, Activation.ALWAYS, false),
     /**
      * Represents a ShootingPea
      */
@@ -85,27 +86,30 @@ public enum EntityType {
     /**
      * Represents a Pea
      */
-    PEA(16, 16, 0, 200),
+    PEA(16, 16, 0, 200, Activation.VIEW_MARGIN, Activation.VIEW_MARGIN, true),
     /**
      * Represents a Slash
      */
-    SLASH(16, 32, 0, 150),
+    SLASH(16, 32, 0, 150, Activation.VIEW_MARGIN, Activation.VIEW_MARGIN, true),
     /**
      * Represents a Spikes
      */
-    SPIKES(32, 64, 0, 300),
+    SPIKES(32, 64, 0, 300, Activation.VIEW_MARGIN, Activation.VIEW_MARGIN, true),
     /**
      * Represents the boss of the game
      */
-    BROCCOLI(96, 320, 2000, 10);
+    BROCCOLI(96, 320, 2000, 10, Activation.ALWAYS, Activation.ALWAYS, false);
 
     private final int width;
     private final int height;
     private final int maxHp;
     private final int attackDamage;
+    private final int awakeRange;
+    private final int warmRange;
+    private final boolean culled;
 
     /**
-     * Entity's types constructor
+     * Entity's types constructor, with the default activation ranges
      *
      * @param width        The Entity's width
      * @param height       The Entity's height
@@ -113,10 +117,31 @@ public enum EntityType {
      * @param attackDamage The Entity's attack damage
      */
     EntityType(final int width, final int height, final int maxHp, final int attackDamage) {
+        this(width, height, maxHp, attackDamage, Activation.AWAKE_RANGE, Activation.WARM_RANGE, false);
+    }
+
+    /**
+     * Entity's types constructor
+     *
+     * @param width        The Entity's width
+     * @param height       The Entity's height
+     * @param maxHp        The Entity's total hp
+     * @param attackDamage The Entity's attack damage
+     * @param awakeRange   The distance in blocks from the player within which the Entity is awake,
+     *                     from the view if culled
+     * @param warmRange    The distance in blocks from the player within which the Entity is warm,
+     *                     from the view if culled
+     * @param culled       True if the Entity is removed when it becomes dormant
+     */
+    EntityType(final int width, final int height, final int maxHp, final int attackDamage,
+               final int awakeRange, final int warmRange, final boolean culled) {
         this.width = width;
         this.height = height;
         this.maxHp = maxHp;
         this.attackDamage = attackDamage;
+        this.awakeRange = awakeRange;
+        this.warmRange = warmRange;
+        this.culled = culled;
     }
 
     /**
@@ -154,4 +179,30 @@ public enum EntityType {
     public int getAttackDamage() {
         return this.attackDamage;
     }
+
+    /**
+     * Returns the Entity activation at a distance from the player, or from the view if culled
+     *
+     * @param distance The horizontal distance between the centers of the Entity and the player,
+     *                 or between the Entity and the view if culled
+     * @return Entity's activation
+     */
+    public Activation getActivation(final double distance) {
+        if (distance <= (double) this.awakeRange * Block.SIZE) {
+            return Activation.AWAKE;
+        }
+        if (distance <= (double) this.warmRange * Block.SIZE) {
+            return Activation.WARM;
+        }
+        return Activation.DORMANT;
+    }
+
+    /**
+     * Returns if the Entity is removed when it becomes dormant, like the projectiles leaving the screen
+     *
+     * @return True if culled
+     */
+    public boolean isCulled() {
+        return this.culled;
+    }
 }
@@ -3,6 +3,7 @@ package it.unibo.cicciopier.model.entities.base;
 import it.unibo.cicciopier.model.GameObject;
 import it.unibo.cicciopier.model.SimpleGameObject;
 import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.utility.Vector2d;
 
 /**
  * Abstract class that generalizes all basic traits of any kind of Entity
@@ -11,6 +12,9 @@ public abstract class SimpleEntity extends SimpleGameObject implements Entity {
     private final World world;
     private final EntityType type;
     private boolean removed;
+    private Activation activation;
+    private int storeIndex;
+    private int broadphaseIndex;
 
     /**
      * Constructor for this class
@@ -19,10 +23,24 @@ public abstract class SimpleEntity extends SimpleGameObject implements Entity {
      * @param world The game's world
      */
     protected SimpleEntity(final EntityType type, final World world) {
-        super();
+        this(type, world, new Vector2d(0, 0));
+    }
+
+    /**
+     * Constructor for this class, it keeps the position in the given vector
+     *
+     * @param type  The Entity's type
+     * @param world The game's world
+     * @param pos   The vector of the position
+     */
+    protected SimpleEntity(final EntityType type, final World world, final Vector2d pos) {
+        super(pos);
         this.type = type;
         this.world = world;
         this.removed = false;
+        this.activation = Activation.AWAKE;
+        this.storeIndex = NO_INDEX;
+        this.broadphaseIndex = NO_INDEX;
     }
 
     /**
@@ -57,6 +75,64 @@ public abstract class SimpleEntity extends SimpleGameObject implements Entity {
         return this.getBounds().intersects(object.getBounds());
     }
 
+    /**
+     * {@inheritDoc}
+     * The world is notified, so it can find the entity in the new position.
+     */
+    @Override
+    public void setPos(final Vector2d pos) {
+        super.setPos(pos);
+        this.world.updateEntity(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Activation getActivation() {
+        return this.activation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setActivation(final Activation activation) {
+        this.activation = activation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStoreIndex() {
+        return this.storeIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStoreIndex(final int index) {
+        this.storeIndex = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBroadphaseIndex() {
+        return this.broadphaseIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBroadphaseIndex(final int index) {
+        this.broadphaseIndex = index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,7 +154,10 @@ public abstract class SimpleEntity extends SimpleGameObject implements Entity {
      */
     @Override
     public void remove() {
-        this.removed = true;
+        if (!this.removed) {
+            this.removed = true;
+            this.world.removeEntity(this);
+        }
     }
 
     /**
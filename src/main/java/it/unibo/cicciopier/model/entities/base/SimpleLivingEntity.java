@@ -1,8 +1,10 @@
 package it.unibo.cicciopier.model.entities.base;
 
+import it.unibo.cicciopier.model.Body;
 import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.model.blocks.base.ShapelessBlock;
 import it.unibo.cicciopier.model.entities.EntityState;
-import it.unibo.cicciopier.utility.Vector2d;
+import it.unibo.cicciopier.model.events.GameEvent;
 
 /**
  * Class that abstracts a living entity, affected by both gravity and death
@@ -12,10 +14,8 @@ public abstract class SimpleLivingEntity extends SimpleMovingEntity implements L
     private static final int JUMP_FORCE = 16;
     private static final int MAX_TIME = 35;
 
-    private final Vector2d gravity;
     private final int maxHp;
     private int hp;
-    private boolean ground;
     private boolean dead;
     private boolean isReady;
     private boolean facingRight;
@@ -31,11 +31,10 @@ public abstract class SimpleLivingEntity extends SimpleMovingEntity implements L
      */
     protected SimpleLivingEntity(final EntityType type, final World world) {
         super(type, world);
-        this.ground = false;
+        this.getBodies().setOwner(this.getBody(), new Owner());
         this.maxHp = this.getType().getMaxHp();
         this.hp = this.maxHp;
         this.dead = false;
-        this.gravity = new Vector2d(0, 1);
         this.isReady = true;
         this.facingRight = true;
         this.currentState = EntityState.IDLE;
@@ -112,7 +111,10 @@ public abstract class SimpleLivingEntity extends SimpleMovingEntity implements L
     @Override
     public void die() {
         this.setCurrentState(EntityState.DEAD);
-        this.dead = true;
+        if (!this.dead) {
+            this.dead = true;
+            this.getWorld().getEventBus().post(GameEvent.ENTITY_DIED, this);
+        }
     }
 
     /**
@@ -128,7 +130,7 @@ public abstract class SimpleLivingEntity extends SimpleMovingEntity implements L
      */
     @Override
     public boolean jump() {
-        if (this.isReady && this.ground) {
+        if (this.isReady && this.getBodies().isOnGround(this.getBody())) {
             this.setCurrentState(EntityState.JUMPING);
             this.getVel().setY(-this.getJumpForce());
             this.isReady = false;
@@ -199,75 +201,76 @@ public abstract class SimpleLivingEntity extends SimpleMovingEntity implements L
     }
 
     /**
-     * Method that check collisions and moves the entity
+     * Get the max falling speed of the entity
+     *
+     * @return The max vertical velocity gravity can reach
+     */
+    protected double getMaxGravity() {
+        return MAX_GRAVITY;
+    }
+
+    /**
+     * What to do after the entity has been moved by the physics pass
+     */
+    protected void onMoved() {
+        // do nothing
+    }
+
+    /**
+     * Method that check collisions and moves the entity.
+     * The body of the entity is swept along its velocity by the body store, sliding along the tiles it hits,
+     * and the callbacks are fired from the results of the sweeps.
+     * During the tick of the world the move is resolved at its end, together with the other bodies
      */
     protected void move() {
-        if (this.getVel().getX() > 0) {
+        if (this.getVel().getDoubleX() > 0) {
             this.facingRight = true;
-            //check right collision
-            final int rightOffset = this.rightCollision();
-            if (rightOffset == 0) {
-                this.getVel().setX(0);
-                this.onCollision(Collision.COLLIDING_RIGHT);
-            } else if (rightOffset > 0) {
-                this.getVel().setX(rightOffset);
-                this.onCollision(Collision.NEAR_COLLIDING_RIGHT);
-            }
-        } else if (this.getVel().getX() < 0) {
+        } else if (this.getVel().getDoubleX() < 0) {
             this.facingRight = false;
-            //check left collision
-            final int leftOffset = this.leftCollision();
-            if (leftOffset == 0) {
-                this.getVel().setX(0);
-                this.onCollision(Collision.COLLIDING_LEFT);
-            } else if (leftOffset < 0) {
-                this.getVel().setX(leftOffset);
-                this.onCollision(Collision.NEAR_COLLIDING_LEFT);
-            }
         }
-        if (this.getVel().getY() > 0) {
-            //check bottom collision
-            final int bottomOffset = this.bottomCollision();
-            if (bottomOffset == 0) {
-                this.getVel().setY(0);
-                this.ground = true;
-                if (this.getCurrentState() == EntityState.JUMPING) {
-                    this.resetCurrentState(EntityState.IDLE);
-                }
-                this.onCollision(Collision.COLLIDING_DOWN);
-            } else if (bottomOffset > 0) {
-                this.getVel().setY(bottomOffset);
-                this.onCollision(Collision.NEAR_COLLIDING_DOWN);
-            } else if (bottomOffset == -1) {
-                this.ground = false;
-            } else if (bottomOffset == -2) {
-                this.onCollision(Collision.FALLING);
-            }
-        } else if (this.getVel().getY() < 0) {
-            //check up collision
-            final int upOffset = this.upCollision();
-            if (upOffset == 0) {
-                this.getVel().setY(0);
-                this.onCollision(Collision.COLLIDING_UP);
-            } else if (upOffset < 0) {
-                this.getVel().setY(upOffset);
-                this.onCollision(Collision.NEAR_COLLIDING_UP);
-            }
-            this.ground = false;
+        this.getBodies().move(this.getBody());
+    }
+
+    /**
+     * Owner of the body, it forwards the notifications of the physics pass to the entity
+     */
+    private final class Owner implements Body {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getMaxGravity() {
+            return SimpleLivingEntity.this.getMaxGravity();
         }
-        this.getPos().add(this.getVel());
-        //add gravity to the entity
-        if (this.getVel().getDoubleY() < SimpleLivingEntity.MAX_GRAVITY) {
-            this.getVel().add(gravity);
-            //check bottom collision
-            if (this.bottomCollision() == 0) {
-                this.getVel().setY(0);
-                this.ground = true;
-                if (this.getCurrentState() == EntityState.JUMPING) {
-                    this.resetCurrentState(EntityState.IDLE);
-                }
-                this.onCollision(Collision.COLLIDING_DOWN);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onCollision(final Collision collision) {
+            if (collision == Collision.COLLIDING_DOWN
+                    && SimpleLivingEntity.this.getCurrentState() == EntityState.JUMPING) {
+                SimpleLivingEntity.this.resetCurrentState(EntityState.IDLE);
             }
+            SimpleLivingEntity.this.onCollision(collision);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onInteract(final ShapelessBlock block) {
+            block.onCollision(SimpleLivingEntity.this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onMoved() {
+            SimpleLivingEntity.this.getWorld().updateEntity(SimpleLivingEntity.this);
+            SimpleLivingEntity.this.onMoved();
         }
     }
 }
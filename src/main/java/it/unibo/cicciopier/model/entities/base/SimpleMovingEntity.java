@@ -1,17 +1,18 @@
 package it.unibo.cicciopier.model.entities.base;
 
+import it.unibo.cicciopier.model.BodyStore;
 import it.unibo.cicciopier.model.World;
-import it.unibo.cicciopier.model.blocks.base.Block;
-import it.unibo.cicciopier.model.blocks.base.ShapelessBlock;
 import it.unibo.cicciopier.utility.Vector2d;
 
-import java.awt.*;
-
 /**
  * Abstract class that generalizes the movement model of Entities
+ * Position and velocity are views of a body in the {@link BodyStore} of the world
  */
 public abstract class SimpleMovingEntity extends SimpleEntity implements MovingEntity {
-    private Vector2d vel;
+    private final TileSweep tileSweep;
+    private final BodyStore bodies;
+    private final int body;
+    private final Vector2d vel;
 
     /**
      * Constructor for this class
@@ -20,8 +21,22 @@ public abstract class SimpleMovingEntity extends SimpleEntity implements MovingE
      * @param world The game's world
      */
     protected SimpleMovingEntity(final EntityType type, final World world) {
-        super(type, world);
-        this.vel = new Vector2d(0, 0);
+        this(type, world, world.getBodies().allocate(type.getWidth(), type.getHeight()));
+    }
+
+    /**
+     * Constructor for this class, with the body already allocated
+     *
+     * @param type  The Entity's type
+     * @param world The game's world
+     * @param body  The id of the body
+     */
+    private SimpleMovingEntity(final EntityType type, final World world, final int body) {
+        super(type, world, world.getBodies().getPosition(body));
+        this.bodies = world.getBodies();
+        this.body = body;
+        this.vel = this.bodies.getVelocity(body);
+        this.tileSweep = new TileSweep();
     }
 
     /**
@@ -37,152 +52,57 @@ public abstract class SimpleMovingEntity extends SimpleEntity implements MovingE
      */
     @Override
     public void setVel(final Vector2d vel) {
-        this.vel = vel;
+        this.vel.set(vel.getDoubleX(), vel.getDoubleY());
     }
 
     /**
-     * Utility method to obtain a reference of the location the Entity
-     * will be when velocity will be applied
-     *
-     * @return The Entity position with the current velocity applied
+     * {@inheritDoc}
+     * The body is freed, the position and the velocity keep their last values.
      */
-    protected Rectangle rectangleOffset() {
-        final Vector2d entityOffset = this.getPos().addVector(this.getVel());
-        return new Rectangle(
-                entityOffset.getX(),
-                entityOffset.getY(),
-                this.getWidth(),
-                this.getHeight()
-        );
+    @Override
+    public void remove() {
+        if (!this.isRemoved()) {
+            super.remove();
+            this.getBodies().free(this.body);
+        }
     }
 
     /**
-     * Check collision up of the entity with blocks
+     * Get the id of the body of the Entity
      *
-     * @return 1 if doesn't collide,
-     * n <= 0  if collides and return how much distance is left from the block or mapEnd
+     * @return The id in the body store
      */
-    protected int upCollision() {
-        //create rectangle with offset of velocity
-        final Rectangle entityHitBox = this.rectangleOffset();
-        //check if the player collides with the beginning of the map
-        if (entityHitBox.getY() <= 0) {
-            return -this.getPos().getY();
-        }
-        final int startX = (int) (entityHitBox.getX() / Block.SIZE);
-        final int endX = (int) ((entityHitBox.getMaxX() - 1) / Block.SIZE);
-        final int y = (int) (entityHitBox.getY() / Block.SIZE);
-        for (int i = startX; i <= endX; i++) {
-            final Block block = this.getWorld().getBlock(i, y);
-            if (block == null) {
-                continue;
-            }
-            //check if they collide
-            if (block.isSolid() && entityHitBox.intersects(block.getBounds())) {
-                return (int) (block.getBounds().getMaxY() - this.getPos().getY());
-            } else if (block.canInteract()) {
-                final ShapelessBlock shapeless = (ShapelessBlock) block;
-                shapeless.onCollision(this);
-            }
-        }
-        return 1;
+    protected int getBody() {
+        return this.body;
     }
 
     /**
-     * Check collision on the right hand side of the entity with blocks
+     * Get the store of the body of the Entity
      *
-     * @return -1 if doesn't collide,
-     * n >= 0  if collides and return how much distance is left from the block or mapEnd
+     * @return The body store of the world
      */
-    protected int rightCollision() {
-        //create rectangle with offset of velocity
-        final Rectangle entityHitBox = this.rectangleOffset();
-        final int worldEndX = this.getWorld().getWidth() * Block.SIZE;
-        //check if the player collide with the end of the map
-        if (entityHitBox.getMaxX() >= worldEndX) {
-            return worldEndX - (this.getPos().getX() + this.getWidth());
-        }
-        final int startY = (int) (entityHitBox.getY() / Block.SIZE);
-        final int endY = (int) ((entityHitBox.getMaxY() - 1) / Block.SIZE);
-        final int x = (int) ((entityHitBox.getMaxX() - 1) / Block.SIZE);
-        for (int i = startY; i <= endY; i++) {
-            final Block block = this.getWorld().getBlock(x, i);
-            if (block == null) {
-                continue;
-            }
-            //check if they collide
-            if (block.isSolid() && entityHitBox.intersects(block.getBounds())) {
-                return (int) (block.getPos().getX() - this.getBounds().getMaxX());
-            } else if (block.canInteract()) {
-                final ShapelessBlock shapeless = (ShapelessBlock) block;
-                shapeless.onCollision(this);
-            }
-        }
-        return -1;
+    protected BodyStore getBodies() {
+        return this.bodies;
     }
 
     /**
-     * Check collision on the left hand side of the entity with blocks
+     * Sweep the Entity along its velocity through the tiles of the world
      *
-     * @return 1 if doesn't collide,
-     * n <= 0  if collides and return how much distance is left from the block or mapEnd
+     * @return The result of the sweep, reused by the next one
      */
-    protected int leftCollision() {
-        //create rectangle with offset of velocity
-        final Rectangle entityHitBox = this.rectangleOffset();
-        //check if the player collides with the beginning of the map
-        if (entityHitBox.getX() <= 0) {
-            return -this.getPos().getX();
-        }
-        final int startY = (int) (entityHitBox.getY() / Block.SIZE);
-        final int endY = (int) ((entityHitBox.getMaxY() - 1) / Block.SIZE);
-        final int x = (int) (entityHitBox.getX() / Block.SIZE);
-        for (int i = startY; i <= endY; i++) {
-            final Block block = this.getWorld().getBlock(x, i);
-            if (block == null) {
-                continue;
-            }
-            //check if they collide
-            if (block.isSolid() && entityHitBox.intersects(block.getBounds())) {
-                return (int) (block.getBounds().getMaxX() - this.getPos().getX());
-            } else if (block.canInteract()) {
-                final ShapelessBlock shapeless = (ShapelessBlock) block;
-                shapeless.onCollision(this);
-            }
-        }
-        return 1;
+    protected TileSweep sweep() {
+        return this.sweep(this.getVel().getDoubleX(), this.getVel().getDoubleY());
     }
 
     /**
-     * Check collision on the bottom of the entity with blocks
+     * Sweep the Entity along a movement through the tiles of the world
      *
-     * @return -1 if doesn't collide, -2 if collides with the bottom border
-     * n >= 0  if collides and return how much distance is left from the block or mapEnd
+     * @param velX The x of the movement
+     * @param velY The y of the movement
+     * @return The result of the sweep, reused by the next one
      */
-    protected int bottomCollision() {
-        //create rectangle with offset of velocity
-        Rectangle entityHitBox = this.rectangleOffset();
-        final int worldEndY = this.getWorld().getHeight() * Block.SIZE;
-        //check if the player collide with the end of the map
-        if (entityHitBox.getMaxY() >= worldEndY) {
-            return -2;
-        }
-        final int startX = (int) (entityHitBox.getX() / Block.SIZE);
-        final int endX = (int) ((entityHitBox.getMaxX() - 1) / Block.SIZE);
-        final int y = (int) ((entityHitBox.getMaxY() - 1) / Block.SIZE);
-        for (int i = startX; i <= endX; i++) {
-            final Block block = this.getWorld().getBlock(i, y);
-            if (block == null) {
-                continue;
-            }
-            //check if they collide
-            if (block.isSolid() && entityHitBox.intersects(block.getBounds())) {
-                return (int) (block.getPos().getY() - this.getBounds().getMaxY());
-            } else if (block.canInteract()) {
-                final ShapelessBlock shapeless = (ShapelessBlock) block;
-                shapeless.onCollision(this);
-            }
-        }
-        return -1;
+    protected TileSweep sweep(final double velX, final double velY) {
+        return this.tileSweep.sweep(this.getWorld(), this.getPos().getDoubleX(), this.getPos().getDoubleY(),
+                this.getWidth(), this.getHeight(), velX, velY);
     }
 }
@@ -0,0 +1,320 @@
+package it.unibo.cicciopier.model.entities.base;
+
+import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.model.blocks.base.Block;
+
+import java.util.Arrays;
+
+/**
+ * Swept collision of a box moving through the tiles of the {@link World}.
+ * The box walks the tiles along its path, a column or a row at a time in the order it enters them,
+ * and the first solid one gives the time of impact and the contact normal, so no speed can tunnel.
+ * The interactive tiles entered before the hit are collected for their callbacks.
+ * Tiles outside the world are solid, except below it, where the box falls out.
+ * The tiles the box already overlaps don't stop it, so it can always move out of them.
+ * An instance holds the result of the last sweep and is reused by the next one.
+ */
+public final class TileSweep {
+    private static final int INITIAL_INTERACTIVE = 4;
+
+    private boolean hit;
+    private double time;
+    private int normalX;
+    private int normalY;
+    private double x;
+    private double y;
+    private Block[] interactive;
+    private int interactiveCount;
+
+    /**
+     * Constructor for this class.
+     */
+    public TileSweep() {
+        this.interactive = new Block[INITIAL_INTERACTIVE];
+        this.reset(0, 0);
+    }
+
+    /**
+     * Move a box along a velocity, stopping at the first solid tile.
+     * Touching a tile without overlapping it isn't a hit.
+     *
+     * @param world  the world
+     * @param x      the x of the box
+     * @param y      the y of the box
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @param velX   the x of the velocity
+     * @param velY   the y of the velocity
+     * @return this, with the result of the sweep
+     */
+    public TileSweep sweep(final World world, final double x, final double y, final int width, final int height,
+                           final double velX, final double velY) {
+        this.reset(x + velX, y + velY);
+        // the tiles overlapped by the box, touching ones excluded
+        int startColumn = (int) Math.floor(x / Block.SIZE);
+        int endColumn = (int) Math.ceil((x + width) / Block.SIZE) - 1;
+        int startRow = (int) Math.floor(y / Block.SIZE);
+        int endRow = (int) Math.ceil((y + height) / Block.SIZE) - 1;
+        while (true) {
+            // when the leading side enters the next tiles and the trailing one leaves the last ones
+            final double enterX;
+            final double leaveX;
+            if (velX > 0) {
+                enterX = ((endColumn + 1) * Block.SIZE - (x + width)) / velX;
+                leaveX = ((startColumn + 1) * Block.SIZE - x) / velX;
+            } else if (velX < 0) {
+                enterX = (startColumn * Block.SIZE - x) / velX;
+                leaveX = (endColumn * Block.SIZE - (x + width)) / velX;
+            } else {
+                enterX = Double.POSITIVE_INFINITY;
+                leaveX = Double.POSITIVE_INFINITY;
+            }
+            final double enterY;
+            final double leaveY;
+            if (velY > 0) {
+                enterY = ((endRow + 1) * Block.SIZE - (y + height)) / velY;
+                leaveY = ((startRow + 1) * Block.SIZE - y) / velY;
+            } else if (velY < 0) {
+                enterY = (startRow * Block.SIZE - y) / velY;
+                leaveY = (endRow * Block.SIZE - (y + height)) / velY;
+            } else {
+                enterY = Double.POSITIVE_INFINITY;
+                leaveY = Double.POSITIVE_INFINITY;
+            }
+            final double next = Math.min(Math.min(enterX, leaveX), Math.min(enterY, leaveY));
+            if (next >= 1) {
+                return this;
+            }
+            // on a tie the box leaves before entering, and enters columns before rows,
+            // so the diagonal tile is checked with the rows and gives a ground or a ceiling
+            if (leaveX == next) {
+                if (velX > 0) {
+                    startColumn++;
+                } else {
+                    endColumn--;
+                }
+            } else if (leaveY == next) {
+                if (velY > 0) {
+                    startRow++;
+                } else {
+                    endRow--;
+                }
+            } else if (enterX == next) {
+                final int column = velX > 0 ? endColumn + 1 : startColumn - 1;
+                if (this.enter(world, column, column, startRow, endRow)) {
+                    this.stop(next, velX > 0 ? -1 : 1, 0);
+                    this.x = velX > 0 ? column * Block.SIZE - width : (column + 1) * Block.SIZE;
+                    this.y = y + velY * next;
+                    return this;
+                }
+                if (velX > 0) {
+                    endColumn++;
+                } else {
+                    startColumn--;
+                }
+            } else {
+                final int row = velY > 0 ? endRow + 1 : startRow - 1;
+                if (this.enter(world, startColumn, endColumn, row, row)) {
+                    this.stop(next, 0, velY > 0 ? -1 : 1);
+                    this.x = x + velX * next;
+                    this.y = velY > 0 ? row * Block.SIZE - height : (row + 1) * Block.SIZE;
+                    return this;
+                }
+                if (velY > 0) {
+                    endRow++;
+                } else {
+                    startRow--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the box hit a solid tile.
+     *
+     * @return true if it hit
+     */
+    public boolean isHit() {
+        return this.hit;
+    }
+
+    /**
+     * Get the fraction of the velocity travelled before the hit.
+     *
+     * @return the time of impact, from 0 to 1, 1 if nothing has been hit
+     */
+    public double getTime() {
+        return this.time;
+    }
+
+    /**
+     * Get the x of the normal of the hit side of the tile.
+     *
+     * @return -1 or 1 if a wall has been hit, 0 otherwise
+     */
+    public int getNormalX() {
+        return this.normalX;
+    }
+
+    /**
+     * Get the y of the normal of the hit side of the tile.
+     *
+     * @return -1 for a ground, 1 for a ceiling, 0 otherwise
+     */
+    public int getNormalY() {
+        return this.normalY;
+    }
+
+    /**
+     * Check if the box landed on a tile.
+     *
+     * @return true if it hit a ground
+     */
+    public boolean isGround() {
+        return this.normalY < 0;
+    }
+
+    /**
+     * Check if the box hit a tile on its side.
+     *
+     * @return true if it hit a wall
+     */
+    public boolean isWall() {
+        return this.normalX != 0;
+    }
+
+    /**
+     * Check if the box hit a tile above it.
+     *
+     * @return true if it hit a ceiling
+     */
+    public boolean isCeiling() {
+        return this.normalY > 0;
+    }
+
+    /**
+     * Get the x of the box at the end of the sweep, exactly against the tile if it hit a wall.
+     *
+     * @return the x
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Get the y of the box at the end of the sweep, exactly against the tile if it hit a ground or a ceiling.
+     *
+     * @return the y
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Get how many interactive tiles the box entered before the hit.
+     *
+     * @return the number of interactive blocks
+     */
+    public int getInteractiveCount() {
+        return this.interactiveCount;
+    }
+
+    /**
+     * Get an interactive tile the box entered before the hit, in the order they were entered.
+     *
+     * @param index the index, less than {@link #getInteractiveCount()}
+     * @return the block
+     */
+    public Block getInteractive(final int index) {
+        return this.interactive[index];
+    }
+
+    /**
+     * Clear the result.
+     *
+     * @param x the x of the box at the end of a free movement
+     * @param y the y of the box at the end of a free movement
+     */
+    private void reset(final double x, final double y) {
+        this.hit = false;
+        this.time = 1;
+        this.normalX = 0;
+        this.normalY = 0;
+        this.x = x;
+        this.y = y;
+        Arrays.fill(this.interactive, 0, this.interactiveCount, null);
+        this.interactiveCount = 0;
+    }
+
+    /**
+     * Keep the hit.
+     *
+     * @param time    the time of impact
+     * @param normalX the x of the normal
+     * @param normalY the y of the normal
+     */
+    private void stop(final double time, final int normalX, final int normalY) {
+        this.hit = true;
+        this.time = Math.max(0, time);
+        this.normalX = normalX;
+        this.normalY = normalY;
+    }
+
+    /**
+     * Enter a column or a row of tiles, collecting the interactive ones.
+     *
+     * @param world       the world
+     * @param startColumn the first column
+     * @param endColumn   the last column
+     * @param startRow    the first row
+     * @param endRow      the last row
+     * @return true if one of them is solid
+     */
+    private boolean enter(final World world, final int startColumn, final int endColumn,
+                          final int startRow, final int endRow) {
+        for (int row = startRow; row <= endRow; row++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                if (TileSweep.isSolid(world, column, row)) {
+                    return true;
+                }
+            }
+        }
+        for (int row = startRow; row <= endRow; row++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                final Block block = world.getBlock(column, row);
+                if (block != null && block.canInteract()) {
+                    this.collect(block);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add an interactive tile to the result, growing the reused array when needed.
+     *
+     * @param block the block
+     */
+    private void collect(final Block block) {
+        if (this.interactiveCount == this.interactive.length) {
+            this.interactive = Arrays.copyOf(this.interactive, this.interactive.length * 2);
+        }
+        this.interactive[this.interactiveCount++] = block;
+    }
+
+    /**
+     * Check if a tile stops the movement.
+     *
+     * @param world  the world
+     * @param column the column of the tile
+     * @param row    the row of the tile
+     * @return true if it's solid or outside the sides or the top of the world
+     */
+    private static boolean isSolid(final World world, final int column, final int row) {
+        if (column < 0 || row < 0 || column >= world.getWidth()) {
+            return true;
+        }
+        return world.isSolid(column, row);
+    }
+
+}
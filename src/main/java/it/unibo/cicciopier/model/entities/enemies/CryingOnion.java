@@ -201,12 +201,20 @@ public class CryingOnion extends SimplePathEnemy {
         super.onCollision(collision);
     }
 
+    /**
+     * {@inheritDoc}
+     * Once started, the attack goes on until the end.
+     */
+    @Override
+    protected boolean willAttack() {
+        return this.attacking || this.isAttacking();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected boolean attackBehaviour() {
-        this.checkAttackConditions();
         if (this.isAttacking()) {
             this.attacking = true;
             this.getVel().setX(0);
@@ -1,5 +1,6 @@
 package it.unibo.cicciopier.model.entities.enemies;
 
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
 import it.unibo.cicciopier.model.entities.base.LivingEntity;
 
 /**
@@ -39,4 +40,17 @@ public interface Enemy extends LivingEntity {
      * @return The stamina amount
      */
     int getStaminaValue();
+
+    /**
+     * Action executed when the enemy touches the Player
+     */
+    void onPlayerContact();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY;
+    }
 }
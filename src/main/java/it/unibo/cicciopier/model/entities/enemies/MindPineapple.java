@@ -106,7 +106,10 @@ public class MindPineapple extends SimplePathEnemy {
             int dir = this.isFacingRight() ? 1 : -1;
             SimpleProjectile e = ((SimpleProjectile) opt.get());
             e.getVel().setX(dir * PROJECTILE_SPEED);
-            e.setPos(this.getWorld().getPlayer().getPos().addVector(new Vector2d(-dir * this.getType().getWidth(), 0)));
+            final Vector2d pos = Vector2d.scratch(0);
+            final Vector2d playerPos = this.getWorld().getPlayer().getPos();
+            pos.set(playerPos.getDoubleX() - dir * this.getType().getWidth(), playerPos.getDoubleY());
+            e.setPos(pos);
             this.getWorld().addEntity(e);
         }
     }
@@ -60,11 +60,11 @@ public class NinjaPotato extends SimpleEnemy {
      * {@inheritDoc}
      */
     @Override
-    protected void checkPlayerCollision() {
+    public void onPlayerContact() {
         if (this.getCurrentState() == EnemyState.HIDDEN){
             return;
         }
-        super.checkPlayerCollision();
+        super.onPlayerContact();
     }
 
     /**
@@ -4,6 +4,7 @@ import it.unibo.cicciopier.controller.GameLoop;
 import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.model.entities.base.TileSweep;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.entities.enemies.NutView;
 
@@ -38,21 +39,15 @@ public class Nut extends SimpleProjectile {
      * was killed midair
      */
     private void checkGravity(){
-        if (this.bottomCollision() == -1){
-            this.getPos().add(this.getVel());
-        }
+        final TileSweep sweep = this.sweep();
+        this.getPos().set(sweep.getX(), sweep.getY());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void tick(final long ticks) {
-        if (this.checkCollision(this.getWorld().getPlayer())) {
-            this.remove();
-            this.createExplosion();
-            this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
-        }
+    protected void travel() {
         this.checkGravity();
     }
 }
@@ -0,0 +1,24 @@
+package it.unibo.cicciopier.model.entities.enemies;
+
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
+import it.unibo.cicciopier.model.entities.base.MovingEntity;
+
+/**
+ * Represents a projectile that damages the Player
+ */
+public interface Projectile extends MovingEntity {
+
+    /**
+     * Action executed when the projectile hits the Player
+     */
+    void onPlayerHit();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PROJECTILE;
+    }
+
+}
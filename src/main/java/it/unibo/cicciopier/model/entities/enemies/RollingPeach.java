@@ -146,7 +146,9 @@ public class RollingPeach extends SimplePathEnemy {
         Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(type);
         if (opt.isPresent()) {
             SimpleProjectile e = ((SimpleProjectile) opt.get());
-            e.setPos(this.getPos().addVector(new Vector2d(0, this.getType().getHeight() - type.getHeight())));
+            final Vector2d pos = Vector2d.scratch(0);
+            pos.set(this.getPos().getDoubleX(), this.getPos().getDoubleY() + this.getType().getHeight() - type.getHeight());
+            e.setPos(pos);
             e.getVel().setX(projectileSpeed);
             this.getWorld().addEntity(e);
         }
@@ -233,23 +235,32 @@ public class RollingPeach extends SimplePathEnemy {
      * {@inheritDoc}
      */
     @Override
-    protected void checkPlayerCollision() {
-        super.checkPlayerCollision();
+    public void onPlayerContact() {
+        if (this.isDead() || this.getCurrentState() == EnemyState.DEAD) {
+            return;
+        }
+        super.onPlayerContact();
         if (this.angered) {
-            if (this.getWorld().getPlayer().checkCollision(this)) {
-                this.suicidal = true;
-                this.die();
-                this.createExplosion();
-            }
+            this.suicidal = true;
+            this.die();
+            this.createExplosion();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Once started, the attack goes on until the end.
+     */
+    @Override
+    protected boolean willAttack() {
+        return this.attacking || this.isAttacking();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected boolean attackBehaviour() {
-        this.checkAttackConditions();
         if (this.isAttacking() && !this.attacking) {
             this.attacking = true;
             this.getVel().setX(0);
@@ -8,6 +8,7 @@ import it.unibo.cicciopier.model.entities.Stamina;
 import it.unibo.cicciopier.model.entities.base.Entity;
 import it.unibo.cicciopier.model.entities.base.EntityType;
 import it.unibo.cicciopier.model.entities.base.SimpleLivingEntity;
+import it.unibo.cicciopier.model.entities.base.TileSweep;
 import it.unibo.cicciopier.utility.Vector2d;
 
 import java.util.Optional;
@@ -40,7 +41,7 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
         this.shootingCooldownTicks = 0;
         this.hitTicks = 0;
         this.attacking = false;
-        this.rand = new Random();
+        this.rand = world.getRandom();
         this.setFacingRight(false);
     }
 
@@ -143,15 +144,13 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
         int y = this.getPos().getY() / Block.SIZE;
         if (this.isFacingRight()) {
             for (int i = startX; i <= endX; i++) {
-                Block block = this.getWorld().getBlock(i, y);
-                if (block.isSolid()) {
+                if (this.getWorld().isSolid(i, y)) {
                     return true;
                 }
             }
         } else {
             for (int i = startX; i >= endX; i--) {
-                Block block = this.getWorld().getBlock(i, y);
-                if (block.isSolid()) {
+                if (this.getWorld().isSolid(i, y)) {
                     return true;
                 }
             }
@@ -183,10 +182,15 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
     }
 
     /**
-     * Method that defines the common collision hit behaviour between a generic enemy and the player
+     * {@inheritDoc}
+     * Defines the common collision hit behaviour between a generic enemy and the player
      */
-    protected void checkPlayerCollision() {
-        if (this.getWorld().getPlayer().checkCollision(this) && this.hitTicks == 0) {
+    @Override
+    public void onPlayerContact() {
+        if (this.isDead() || this.getCurrentState() == EnemyState.DEAD) {
+            return;
+        }
+        if (this.hitTicks == 0) {
             this.attackPlayer();
             this.hitTicks = HIT_COOLDOWN;
         }
@@ -238,9 +242,9 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
             if (this.deathTicks == DEATH_DURATION) {
                 this.remove();
             }
-            if (this.bottomCollision() == -1) {
-                this.getPos().add(this.getVel());
-            }
+            // fall until the ground is reached
+            final TileSweep sweep = this.sweep();
+            this.getPos().set(sweep.getX(), sweep.getY());
             return true;
         }
         return false;
@@ -257,7 +261,9 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
         if (opt.isPresent()) {
             int dir = this.isFacingRight() ? 1 : -1;
             SimpleProjectile e = ((SimpleProjectile) opt.get());
-            e.setPos(this.getPos().addVector(new Vector2d(0, this.getType().getHeight() / 2d)));
+            final Vector2d pos = Vector2d.scratch(0);
+            pos.set(this.getPos().getDoubleX(), this.getPos().getDoubleY() + Math.round(this.getType().getHeight() / 2d));
+            e.setPos(pos);
             e.getVel().setX(dir * projectileSpeed);
             this.getWorld().addEntity(e);
         }
@@ -273,7 +279,6 @@ public abstract class SimpleEnemy extends SimpleLivingEntity implements Enemy {
             return;
         }
         this.updateHitTicks();
-        this.checkPlayerCollision();
         this.updateShootingCooldownTicks();
     }
 }
@@ -13,6 +13,8 @@ public abstract class SimplePathEnemy extends SimpleEnemy implements PathEnemy {
     private int rightPathfurthest;
     private int currentDest;
     private int idleTicks;
+    private long thinkTicks;
+    private EntityState pathState;
 
     /**
      * Constructor for this class.
@@ -23,6 +25,8 @@ public abstract class SimplePathEnemy extends SimpleEnemy implements PathEnemy {
      */
     protected SimplePathEnemy(final EntityType type, final World world) {
         super(type, world);
+        this.thinkTicks = -1;
+        this.pathState = null;
     }
 
     /**
@@ -65,6 +69,7 @@ public abstract class SimplePathEnemy extends SimpleEnemy implements PathEnemy {
 
     /**
      * Method called every tick if the Enemy is not dead, before moving.
+     * The attack conditions are already checked by {@link #think(long)}.
      * Based on the Enemy attacking or not, two different methods get called.
      * These two methods are left empty to be implemented in each individual Enemy.
      * If the Enemy is attacking, this method returns true so that the tick does not continue
@@ -73,7 +78,6 @@ public abstract class SimplePathEnemy extends SimpleEnemy implements PathEnemy {
      * @return True, if the Enemy is currently attacking
      */
     protected boolean attackBehaviour() {
-        this.checkAttackConditions();
         if (this.isAttacking()) {
             this.attacking();
             return true;
@@ -111,41 +115,74 @@ public abstract class SimplePathEnemy extends SimpleEnemy implements PathEnemy {
         }
     }
 
+    /**
+     * Utility method used to know if the Enemy is going to attack in this tick,
+     * so if {@link #attackBehaviour()} is going to return true
+     *
+     * @return True, if the Enemy will follow its attack behaviour
+     */
+    protected boolean willAttack() {
+        return this.isAttacking();
+    }
+
     /**
      * Method that defines the common movement behaviour for all path enemies.
+     * It only decides the velocity, the Enemy is moved by the tick
      *
      * @param movementSpeed The speed of the movement
      * @param idleDuration  THe duration of the idle at each extreme
+     * @return The state of the Enemy along the path
      */
-    private void pathMovementBehaviour(final double movementSpeed, final double idleDuration) {
+    private EntityState pathMovementBehaviour(final double movementSpeed, final double idleDuration) {
         if (this.getPos().getX() == this.currentDest
                 && this.idleTicks < idleDuration) {
-            this.resetCurrentState(EntityState.IDLE);
             this.getVel().setX(0);
             this.idleTicks++;
+            return EntityState.IDLE;
         } else if (this.getPos().getX() == this.currentDest) {
             this.currentDest = this.currentDest == this.leftPathfurthest ? this.rightPathfurthest : this.leftPathfurthest;
             this.idleTicks = 0;
-            this.resetCurrentState(EnemyState.RUNNING);
+            return EnemyState.RUNNING;
         } else {
             this.getVel().setX(this.currentDest == this.leftPathfurthest ? -movementSpeed : movementSpeed);
-            this.resetCurrentState(EntityState.RUNNING);
+            return EntityState.RUNNING;
         }
-        this.move();
     }
 
     /**
      * {@inheritDoc}
+     * Checks the attack conditions, they only read the player and the blocks,
+     * then decides the movement along the path if the Enemy isn't going to attack.
+     */
+    @Override
+    public void think(final long ticks) {
+        this.thinkTicks = ticks;
+        this.pathState = null;
+        if (!this.isDead()) {
+            this.checkAttackConditions();
+            if (!this.willAttack()) {
+                this.pathState = this.pathMovementBehaviour(this.getMovementSpeed(), this.getIdleDuration());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Thinks first if it wasn't done for this tick, then follows the movement decided by thinking.
      */
     @Override
     public void tick(final long ticks) {
+        if (this.thinkTicks != ticks) {
+            this.think(ticks);
+        }
         super.tick(ticks);
         if (this.isDead()) {
             return;
         }
-        if (this.attackBehaviour()) {
+        if (this.attackBehaviour() || this.pathState == null) {
             return;
         }
-        this.pathMovementBehaviour(this.getMovementSpeed(), this.getIdleDuration());
+        this.resetCurrentState(this.pathState);
+        this.move();
     }
 }
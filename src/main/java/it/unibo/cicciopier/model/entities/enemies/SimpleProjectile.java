@@ -11,9 +11,12 @@ import java.util.Optional;
 /**
  * Abstract class for Projectiles
  */
-public abstract class SimpleProjectile extends SimpleMovingEntity {
+public abstract class SimpleProjectile extends SimpleMovingEntity implements Projectile {
     private final int durationTicks;
     private int localTicks;
+    private boolean expired;
+    private boolean hitWall;
+    private long thinkTicks;
 
     /**
      * Constructor for this class
@@ -26,28 +29,19 @@ public abstract class SimpleProjectile extends SimpleMovingEntity {
         super(type, world);
         this.durationTicks = durationTicks;
         this.localTicks = 0;
+        this.expired = false;
+        this.hitWall = false;
+        this.thinkTicks = -1;
     }
 
     /**
-     * Method to check if projectile hit something, eventually destroying it
-     */
-    private void checkCollisionsHit() {
-        if (this.getVel().getX() < 0 && this.leftCollision() <= 0 ||
-                this.getVel().getX() > 0 && this.rightCollision() >= 0) {
-            this.createExplosion();
-            this.remove();
-        }
-    }
-
-    /**
-     * Method to check if projectile hit the Player, eventually damaging it
+     * {@inheritDoc}
      */
-    private void checkPlayerHit() {
-        if (this.checkCollision(this.getWorld().getPlayer())) {
-            this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
-            this.createExplosion();
-            this.remove();
-        }
+    @Override
+    public void onPlayerHit() {
+        this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
+        this.createExplosion();
+        this.remove();
     }
 
     /**
@@ -57,23 +51,51 @@ public abstract class SimpleProjectile extends SimpleMovingEntity {
         Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(EntityType.EXPLOSION);
         if (opt.isPresent()) {
             Entity e = opt.get();
-            e.setPos(this.getPos().addVector(new Vector2d(-e.getWidth() / 2d, -e.getHeight() / 2d)));
+            final Vector2d pos = Vector2d.scratch(0);
+            pos.set(this.getPos().getDoubleX() + Math.round(-e.getWidth() / 2d),
+                    this.getPos().getDoubleY() + Math.round(-e.getHeight() / 2d));
+            e.setPos(pos);
             this.getWorld().addEntity(e);
         }
     }
 
     /**
      * {@inheritDoc}
+     * Moves the projectile, reading only the blocks.
      */
     @Override
-    public void tick(final long ticks) {
+    public void think(final long ticks) {
+        this.thinkTicks = ticks;
+        this.travel();
+    }
+
+    /**
+     * Method that moves the projectile and checks if it's expired or it hit a wall
+     */
+    protected void travel() {
         this.localTicks++;
-        if (this.localTicks > this.durationTicks) {
+        this.expired = this.localTicks > this.durationTicks;
+        this.getPos().add(this.getVel());
+        this.hitWall = this.sweep().isWall();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Removes the projectile if it's expired or it hit a wall, eventually destroying it.
+     * Thinks first if it wasn't done for this tick.
+     */
+    @Override
+    public void tick(final long ticks) {
+        if (this.thinkTicks != ticks) {
+            this.think(ticks);
+        }
+        if (this.expired) {
+            this.remove();
+        }
+        if (this.hitWall) {
+            this.createExplosion();
             this.remove();
         }
-        this.getPos().add(this.getVel());
-        this.checkPlayerHit();
-        this.checkCollisionsHit();
     }
 
 }
@@ -6,6 +6,7 @@ import it.unibo.cicciopier.model.Sound;
 import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.EntityState;
+import it.unibo.cicciopier.model.entities.Player;
 import it.unibo.cicciopier.model.entities.Score;
 import it.unibo.cicciopier.model.entities.base.Entity;
 import it.unibo.cicciopier.model.entities.base.EntityType;
@@ -35,6 +36,7 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
     private final Random random;
     private long start;
     private final BossState[] attacks;
+    private final List<Laser> lasers;
     private BossState lastAttack;
 
     /**
@@ -45,10 +47,11 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
     public Broccoli(final World world) {
         super(EntityType.BROCCOLI, world);
         this.start = -1;
-        this.random = new Random();
+        this.random = world.getRandom();
         this.broccoliView = new BroccoliView(this);
         this.attacks = new BossState[]{BossState.LASER, BossState.METEOR_SHOWER, BossState.MISSILE_LAUNCHER};
         this.lastAttack = BossState.SEEK;
+        this.lasers = new ArrayList<>();
     }
 
     /**
@@ -84,21 +87,15 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
             this.setCurrentState(BossState.MISSILE_LAUNCHER);
             return;
         }
-        Vector2d desire = getPos().directionVector(getWorld().getPlayer().getPos());
-        desire.setY(0);
+        final Player player = getWorld().getPlayer();
+        final int desire = Vector2d.scratch(0).setDirection(getPos(), player.getPos()).getX();
         double distance = 0;
-        Vector2d BossPos;
-        Vector2d playerPos;
 
-        if (desire.getX() < 0) {    //player is on the left of the boss
-            BossPos = new Vector2d(getPos().getDoubleX(), 0);
-            playerPos = new Vector2d(getWorld().getPlayer().getBounds().getMaxX(), 0);
-            distance = BossPos.euclidDistance(playerPos);
-        } else if (desire.getX() > 0) { //player is on the right of the boss
-            BossPos = new Vector2d(getBounds().getMaxX(), 0);
-            playerPos = new Vector2d(getWorld().getPlayer().getPos().getDoubleX(), 0);
-            distance = BossPos.euclidDistance(playerPos);
-        } else if (desire.getX() == 0) {    //player is on top of the boss
+        if (desire < 0) {    //player is on the left of the boss
+            distance = Math.abs(getPos().getDoubleX() - (player.getPos().getX() + player.getWidth()));
+        } else if (desire > 0) { //player is on the right of the boss
+            distance = Math.abs(getPos().getX() + getWidth() - player.getPos().getX());
+        } else {    //player is on top of the boss
             this.setCurrentState(BossState.MISSILE_LAUNCHER);
             return;
         }
@@ -123,8 +120,7 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
             return;
         }
         //max speed that the boss can move
-        desire.setMagnitude(Broccoli.MAX_SPEED);
-        this.getVel().setX(desire.getX());
+        this.getVel().setX(Integer.signum(desire) * Broccoli.MAX_SPEED);
     }
 
     /**
@@ -137,7 +133,7 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
             Optional<Entity> opt = getWorld().getEntityFactory().createEntity(EntityType.MISSILE);
             if (opt.isPresent()) {
                 Entity e = opt.get();
-                e.setPos(getPos().clone());
+                e.setPos(this.getPos());
                 getWorld().addEntity(e);
             }
         }
@@ -203,13 +199,15 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
             Optional<Entity> opt = getWorld().getEntityFactory().createEntity(EntityType.LASER);
             if (opt.isPresent()) {
                 final Laser e = (Laser) opt.get();
-                e.setStartLine(this.getPos().clone().addVector(new Vector2d(50, 170)));
+                e.setStartLine(new Vector2d(this.getPos().getDoubleX() + 50, this.getPos().getDoubleY() + 170));
                 if (this.isFacingRight()) {
                     e.getEndLine().set(this.getPos().getX() + this.getWidth() + startingOffset, this.getBounds().getMaxY());
                 } else {
                     e.getEndLine().set(this.getPos().getX() - startingOffset, this.getBounds().getMaxY());
                 }
                 getWorld().addEntity(e);
+                this.lasers.removeIf(Entity::isRemoved);
+                this.lasers.add(e);
             }
         }
         this.resetTimerAndSeek(ticks, LASER_DURATION);
@@ -220,7 +218,8 @@ public class Broccoli extends SimpleLivingEntity implements Boss {
      */
     private void death() {
         getVel().setX(0);
-        this.getWorld().getEntities().stream().filter(Laser.class::isInstance).forEach(Entity::remove);
+        this.lasers.forEach(Entity::remove);
+        this.lasers.clear();
         this.getWorld().getPlayer().addScore(Score.BOSS);
         this.remove();
     }
@@ -39,7 +39,7 @@ public class Laser extends SimpleMovingEntity {
      */
     private void seek() {
         // desired Velocity of the laser
-        final Vector2d desire = this.getPos().directionVector(this.getWorld().getPlayer().getPos().clone());
+        final Vector2d desire = this.getVel().setDirection(this.getPos(), this.getWorld().getPlayer().getPos());
 
         //set the y coordinate to 0 so the laser can only move in the X direction
         int xVel = desire.getX();
@@ -47,10 +47,9 @@ public class Laser extends SimpleMovingEntity {
         if (xVel != 0) {
             desire.setMagnitude(Laser.MAX_SPEED);
         } else {
-            xVel = Math.random() >= 0.5 ? Laser.MAX_SPEED : -Laser.MAX_SPEED;
+            xVel = this.getWorld().getRandom().nextBoolean() ? Laser.MAX_SPEED : -Laser.MAX_SPEED;
             desire.setX(xVel);
         }
-        this.setVel(desire);
     }
 
     /**
@@ -66,7 +65,6 @@ public class Laser extends SimpleMovingEntity {
             setVel(new Vector2d(0, 0));
             return;
         }
-        Block block = getWorld().getBlock(x, y - 1);
         Line2D line2D = new Line2D.Double(
                 this.getStartLine().getDoubleX(),
                 this.getStartLine().getDoubleY(),
@@ -77,8 +75,8 @@ public class Laser extends SimpleMovingEntity {
         if (line2D.intersects(this.getWorld().getPlayer().getBounds())) {
             this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
         }
-        if (block.getType().isSolid()) {
-            if (line2D.intersects(block.getBounds())) {
+        if (this.getWorld().isSolid(x, y - 1)) {
+            if (line2D.intersects(x * Block.SIZE, (y - 1) * Block.SIZE, Block.SIZE, Block.SIZE)) {
                 this.setVel(new Vector2d(0, 0));
             }
         }
@@ -3,6 +3,7 @@ package it.unibo.cicciopier.model.entities.enemies.boss;
 import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.entities.base.EntityType;
 import it.unibo.cicciopier.model.entities.base.SimpleMovingEntity;
+import it.unibo.cicciopier.model.entities.enemies.Projectile;
 import it.unibo.cicciopier.utility.Vector2d;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.entities.enemies.boss.MeteorView;
@@ -10,7 +11,7 @@ import it.unibo.cicciopier.view.entities.enemies.boss.MeteorView;
 /**
  * Simple class to create a meteor for the boss attack
  */
-public class Meteor extends SimpleMovingEntity {
+public class Meteor extends SimpleMovingEntity implements Projectile {
     private static final int MAX_SPEED = 15;
     private final MeteorView meteorView;
     private final Vector2d accel;
@@ -44,15 +45,23 @@ public class Meteor extends SimpleMovingEntity {
         this.getPos().add(this.getVel());
         //start checking for collision when the meteor is shown in the map
         if (this.getPos().getY() > 64) {
-            final boolean playerCollision = this.checkCollision(this.getWorld().getPlayer());
-            if (playerCollision) {
-                this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
-            }
-            //remove if its collide down with something
-            if (this.bottomCollision() != -1 || playerCollision) {
+            //remove if it's going to hit something
+            if (this.sweep().isHit()) {
                 this.remove();
             }
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPlayerHit() {
+        //the meteor hits only when it's shown in the map
+        if (this.getPos().getY() > 64) {
+            this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
+            this.remove();
+        }
+    }
 }
 
@@ -6,6 +6,7 @@ import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.entities.base.Entity;
 import it.unibo.cicciopier.model.entities.base.EntityType;
 import it.unibo.cicciopier.model.entities.base.SimpleMovingEntity;
+import it.unibo.cicciopier.model.entities.enemies.Projectile;
 import it.unibo.cicciopier.utility.Vector2d;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.entities.enemies.boss.MissileView;
@@ -16,7 +17,7 @@ import java.util.Random;
 /**
  * Create a simple missile that chase the player
  */
-public class Missile extends SimpleMovingEntity {
+public class Missile extends SimpleMovingEntity implements Projectile {
     private static final int MIN_DISTANCE = 70;
     private static final int MAX_DISTANCE = 150;
     private static final int MAX_ANGLE = 45; //in degree
@@ -28,7 +29,6 @@ public class Missile extends SimpleMovingEntity {
     private final Vector2d accel;
     private final int maxTravelDistance;
     private int currentDistance;
-    private boolean playerCollision;
 
     /**
      * Constructor for this class, create a Missile instance
@@ -39,12 +39,11 @@ public class Missile extends SimpleMovingEntity {
         super(EntityType.MISSILE, world);
         this.setVel(new Vector2d(0, -6));
         this.accel = new Vector2d();
-        this.random = new Random();
+        this.random = world.getRandom();
         this.maxTravelDistance = this.random.nextInt(Missile.MAX_DISTANCE - Missile.MIN_DISTANCE) +
                 Missile.MIN_DISTANCE;
         //rotate by a random number
         this.getVel().rotateInDegree(this.randAngleInRange());
-        this.playerCollision = false;
         this.currentDistance = 0;
         this.missileView = new MissileView(this);
         AudioController.getInstance().playSound(Sound.LAUNCH);
@@ -88,13 +87,11 @@ public class Missile extends SimpleMovingEntity {
      * Make the missile seek the player
      */
     private void seek() {
-        //player pos with a offset
-        final Vector2d playerPos = this.getWorld().getPlayer().getPos().clone();
         // desired Velocity of the missile
-        final Vector2d desire = this.getPos().directionVector(playerPos);
+        final Vector2d desire = Vector2d.scratch(0).setDirection(this.getPos(), this.getWorld().getPlayer().getPos());
         desire.setMagnitude(Missile.MAX_SPEED);
         // steering force = desire - velocity
-        final Vector2d steering = desire.subVector(this.getVel());
+        final Vector2d steering = desire.subInto(this.getVel(), Vector2d.scratch(1));
         steering.setLimiter(Missile.MAX_STEERING);
         this.applyForce(steering);
     }
@@ -113,26 +110,34 @@ public class Missile extends SimpleMovingEntity {
         this.getPos().add(this.getVel());
         //reset the accel vector
         this.accel.set(0, 0);
-        if (this.checkCollision(this.getWorld().getPlayer())) {
-            this.playerCollision = true;
+        //explode if it's going to hit something
+        if (this.sweep().isHit()) {
+            this.explode();
         }
-        if (this.playerCollision) {
-            //deal damage to player if its intersects
-            this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
-        }
-        if (this.playerCollision ||
-                this.upCollision() != 1 ||
-                this.leftCollision() != 1 ||
-                this.bottomCollision() != -1 ||
-                this.rightCollision() != -1) {
-            //create an explosion
-            Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(EntityType.EXPLOSION);
-            if (opt.isPresent()) {
-                Entity e = opt.get();
-                e.setPos(this.getPos().clone().addVector(new Vector2d(-(double) this.getWidth() / 2, 0)));
-                this.getWorld().addEntity(e);
-                this.remove();
-            }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPlayerHit() {
+        //deal damage to player if its intersects
+        this.getWorld().getPlayer().damage(this.getType().getAttackDamage());
+        this.explode();
+    }
+
+    /**
+     * Create an explosion and remove the missile
+     */
+    private void explode() {
+        Optional<Entity> opt = this.getWorld().getEntityFactory().createEntity(EntityType.EXPLOSION);
+        if (opt.isPresent()) {
+            Entity e = opt.get();
+            final Vector2d pos = Vector2d.scratch(0);
+            pos.set(this.getPos().getDoubleX() + Math.round(-(double) this.getWidth() / 2), this.getPos().getDoubleY());
+            e.setPos(pos);
+            this.getWorld().addEntity(e);
+            this.remove();
         }
     }
 
@@ -26,7 +26,7 @@ public class Burger extends SimpleItem {
      */
     public Burger(final World world) {
         super(EntityType.BURGER, world, Texture.BURGER);
-        this.random = new Random();
+        this.random = world.getRandom();
     }
 
     /**
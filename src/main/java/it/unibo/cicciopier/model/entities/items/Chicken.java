@@ -26,7 +26,7 @@ public class Chicken extends SimpleItem {
      */
     public Chicken(final World world) {
         super(EntityType.CHICKEN, world, Texture.CHICKEN);
-        this.random = new Random();
+        this.random = world.getRandom();
     }
 
     /**
@@ -14,7 +14,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Create a coin object
  */
-public class Coin extends SimpleEntity {
+public class Coin extends SimpleEntity implements Item {
     private static final Logger LOGGER = LoggerFactory.getLogger(Coin.class);
     private final CoinView coinView;
 
@@ -33,14 +33,19 @@ public class Coin extends SimpleEntity {
      */
     @Override
     public void tick(final long ticks) {
-        if (this.checkCollision(this.getWorld().getPlayer())) {
-            AudioController.getInstance().playSound(Sound.COIN);
-            //remove the coin
-            this.remove();
-            this.getWorld().getPlayer().addCoin();
-            this.getWorld().getPlayer().addScore(Score.COIN);
-            LOGGER.info("Coin picked up");
-        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPickup(final long ticks) {
+        AudioController.getInstance().playSound(Sound.COIN);
+        //remove the coin
+        this.remove();
+        this.getWorld().getPlayer().addCoin();
+        this.getWorld().getPlayer().addScore(Score.COIN);
+        LOGGER.info("Coin picked up");
     }
 
     /**
@@ -1,5 +1,6 @@
 package it.unibo.cicciopier.model.entities.items;
 
+import it.unibo.cicciopier.model.entities.base.CollisionLayer;
 import it.unibo.cicciopier.model.entities.base.Entity;
 
 /**
@@ -14,4 +15,12 @@ public interface Item extends Entity {
      */
     void onPickup(final long ticks);
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ITEM;
+    }
+
 }
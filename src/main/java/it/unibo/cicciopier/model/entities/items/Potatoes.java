@@ -23,7 +23,7 @@ public class Potatoes extends SimpleItem {
      */
     public Potatoes(final World world) {
         super(EntityType.POTATOES, world, Texture.POTATOES);
-        this.random = new Random();
+        this.random = world.getRandom();
     }
 
     /**
@@ -33,13 +33,10 @@ public abstract class SimpleItem extends SimpleEntity implements Item {
 
     /**
      * {@inheritDoc}
+     * The pickup is checked by the world, see {@link World#checkCollisions(long)}.
      */
     @Override
     public void tick(final long ticks) {
-        //check if item collides with the player
-        if (this.checkCollision(this.getWorld().getPlayer())) {
-            this.onPickup(ticks);
-        }
     }
 
 }
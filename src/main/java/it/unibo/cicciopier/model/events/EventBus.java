@@ -0,0 +1,58 @@
+package it.unibo.cicciopier.model.events;
+
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Synchronous bus of the {@link GameEvent}s, listeners are called by the thread posting the event.
+ * Listeners are kept in an array for each event, copied when a listener is registered,
+ * so posting an event doesn't allocate.
+ */
+public final class EventBus {
+    private final EventListener[][] listeners;
+
+    /**
+     * Constructor for this class.
+     */
+    public EventBus() {
+        this.listeners = new EventListener[GameEvent.values().length][0];
+    }
+
+    /**
+     * Register a listener of an event.
+     *
+     * @param event    the event
+     * @param listener the listener
+     */
+    public void register(final GameEvent event, final EventListener listener) {
+        final EventListener[] old = this.listeners[event.ordinal()];
+        final EventListener[] updated = Arrays.copyOf(old, old.length + 1);
+        updated[old.length] = listener;
+        this.listeners[event.ordinal()] = updated;
+    }
+
+    /**
+     * Post an event with a value.
+     *
+     * @param event  the event
+     * @param entity the entity the event is about
+     * @param value  the value of the event
+     */
+    public void post(final GameEvent event, final Entity entity, final int value) {
+        for (final EventListener listener : this.listeners[event.ordinal()]) {
+            listener.onEvent(entity, value);
+        }
+    }
+
+    /**
+     * Post an event without a value.
+     *
+     * @param event  the event
+     * @param entity the entity the event is about
+     */
+    public void post(final GameEvent event, final Entity entity) {
+        this.post(event, entity, 0);
+    }
+
+}
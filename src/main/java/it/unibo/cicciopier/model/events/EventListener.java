@@ -0,0 +1,19 @@
+package it.unibo.cicciopier.model.events;
+
+import it.unibo.cicciopier.model.entities.base.Entity;
+
+/**
+ * Listener of a {@link GameEvent}.
+ */
+@FunctionalInterface
+public interface EventListener {
+
+    /**
+     * Called when the event is posted.
+     *
+     * @param entity the entity the event is about
+     * @param value  the value of the event, 0 if it has none
+     */
+    void onEvent(Entity entity, int value);
+
+}
@@ -0,0 +1,39 @@
+package it.unibo.cicciopier.model.events;
+
+/**
+ * Simple enum that contains the events posted on the {@link EventBus}
+ */
+public enum GameEvent {
+    /**
+     * An entity has been added to the world
+     */
+    ENTITY_SPAWNED,
+    /**
+     * A living entity died, the player too
+     */
+    ENTITY_DIED,
+    /**
+     * An entity has been removed from the world
+     */
+    ENTITY_REMOVED,
+    /**
+     * An entity has been taken out of the world with its chunk, it's still alive
+     */
+    ENTITY_PARKED,
+    /**
+     * An entity parked with its chunk is back in the world
+     */
+    ENTITY_UNPARKED,
+    /**
+     * The player has been damaged, the value is the damage
+     */
+    PLAYER_DAMAGED,
+    /**
+     * The score of the player changed, the value is the new score
+     */
+    SCORE_CHANGED,
+    /**
+     * The player won the level
+     */
+    LEVEL_WON
+}
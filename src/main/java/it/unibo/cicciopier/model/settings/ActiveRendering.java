@@ -0,0 +1,32 @@
+package it.unibo.cicciopier.model.settings;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class represents the active rendering setting, when active the game is drawn on a canvas
+ * by the render thread instead of being repainted by swing
+ */
+public class ActiveRendering {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActiveRendering.class);
+    private static boolean ACTIVE_RENDERING = false;
+
+    /**
+     * This function return if the active rendering is active
+     *
+     * @return The status of the active rendering
+     */
+    public static boolean isActive() {
+        return ACTIVE_RENDERING;
+    }
+
+    /**
+     * This function updates the active rendering status using the given boolean
+     *
+     * @param activeRendering The status that will be set (true/false)
+     */
+    public static void setActive(final boolean activeRendering) {
+        ACTIVE_RENDERING = activeRendering;
+        LOGGER.info("Active rendering changed to: " + ACTIVE_RENDERING);
+    }
+}
@@ -26,6 +26,7 @@ public class Screen {
             new Resolution(1280, 720),
             new Resolution(854, 480))
     );
+    private static final int DEFAULT_REFRESH_RATE = 60;
     private static double SCALE = 1;
 
     /**
@@ -63,6 +64,15 @@ public class Screen {
         return (int) (Screen.SCALE * value);
     }
 
+    /**
+     * This function returns the scale based on the current size of the screen
+     *
+     * @return the scale
+     */
+    public static double getScale() {
+        return Screen.SCALE;
+    }
+
     /**
      * This function returns the closest max resolution in 16:9 ration based on the screen
      *
@@ -82,6 +92,27 @@ public class Screen {
         return new Dimension(Screen.MAX_DIMENSION);
     }
 
+    /**
+     * This function returns the refresh rate of the main display, if it can't be detected
+     * it returns the default one (60 Hz)
+     *
+     * @return the refresh rate in Hz
+     */
+    public static int getRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return Screen.DEFAULT_REFRESH_RATE;
+        }
+        final int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDisplayMode()
+                .getRefreshRate();
+        if (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) {
+            LOGGER.warn("Unknown display refresh rate, using {} Hz", Screen.DEFAULT_REFRESH_RATE);
+            return Screen.DEFAULT_REFRESH_RATE;
+        }
+        return refreshRate;
+    }
+
     /**
      * Returns the list of resolutions available
      *
@@ -2,8 +2,18 @@ package it.unibo.cicciopier.utility;
 
 /**
  * A simple 2d Vector class
+ * Every method reads and writes the coordinates through the getters and setters,
+ * so a subclass can keep them somewhere else
  */
 public class Vector2d {
+    private static final int SCRATCH_SIZE = 4;
+    private static final ThreadLocal<Vector2d[]> SCRATCH = ThreadLocal.withInitial(() -> {
+        final Vector2d[] vectors = new Vector2d[SCRATCH_SIZE];
+        for (int i = 0; i < SCRATCH_SIZE; i++) {
+            vectors[i] = new Vector2d();
+        }
+        return vectors;
+    });
     private double x;
     private double y;
 
@@ -32,7 +42,7 @@ public class Vector2d {
      * @return x
      */
     public int getX() {
-        return (int) Math.round(this.x);
+        return (int) Math.round(this.getDoubleX());
     }
 
     /**
@@ -41,7 +51,7 @@ public class Vector2d {
      * @return y
      */
     public int getY() {
-        return (int) Math.round(this.y);
+        return (int) Math.round(this.getDoubleY());
     }
 
     /**
@@ -50,8 +60,7 @@ public class Vector2d {
      * @param v1 vector to add
      */
     public void add(final Vector2d v1) {
-        this.x += v1.getDoubleX();
-        this.y += v1.getDoubleY();
+        this.set(this.getDoubleX() + v1.getDoubleX(), this.getDoubleY() + v1.getDoubleY());
     }
 
     /**
@@ -60,7 +69,9 @@ public class Vector2d {
      * @return squared length
      */
     public double getMagnitudeSq() {
-        return Math.pow(this.x, 2) + Math.pow(this.y, 2);
+        final double x = this.getDoubleX();
+        final double y = this.getDoubleY();
+        return x * x + y * y;
     }
 
     /**
@@ -76,10 +87,9 @@ public class Vector2d {
      * Set the length of the vector to 1
      */
     public void normalize() {
-        final double length = Math.sqrt(Math.pow(this.x, 2) + Math.pow(this.y, 2));
+        final double length = Math.sqrt(this.getMagnitudeSq());
 
-        this.x /= length;
-        this.y /= length;
+        this.set(this.getDoubleX() / length, this.getDoubleY() / length);
     }
 
     /**
@@ -88,8 +98,7 @@ public class Vector2d {
      * @param scalar to multiply
      */
     public void scale(final double scalar) {
-        this.x *= scalar;
-        this.y *= scalar;
+        this.set(this.getDoubleX() * scalar, this.getDoubleY() * scalar);
     }
 
     /**
@@ -98,7 +107,7 @@ public class Vector2d {
      * @param max length of the vector
      */
     public void setLimiter(final double max) {
-        if (this.getMagnitudeSq() > Math.pow(max, 2)) {
+        if (this.getMagnitudeSq() > max * max) {
             this.normalize();
             this.scale(max);
         }
@@ -131,7 +140,7 @@ public class Vector2d {
      * @return angle
      */
     public double getAngle() {
-        return Math.atan2(this.y, this.x);
+        return Math.atan2(this.getDoubleY(), this.getDoubleX());
     }
 
     /**
@@ -140,34 +149,33 @@ public class Vector2d {
      * @param degree how much the vector need to rotate
      */
     public void rotateInDegree(final double degree) {
-        final double x0 = this.x;
-        final double y0 = this.y;
+        final double x0 = this.getDoubleX();
+        final double y0 = this.getDoubleY();
         final double straightAngle = 180d;
         final double radiant = (Math.PI * degree) / straightAngle;
 
-        this.x = x0 * Math.cos(radiant) - y0 * Math.sin(radiant);
-        this.y = x0 * Math.sin(radiant) + y0 * Math.cos(radiant);
+        this.set(x0 * Math.cos(radiant) - y0 * Math.sin(radiant), x0 * Math.sin(radiant) + y0 * Math.cos(radiant));
     }
 
     /**
-     * Add two vectors
+     * Add two vectors, the coordinates of the second are rounded
      *
      * @param v2 second vector
      * @return a vector
      */
     public Vector2d addVector(final Vector2d v2) {
-        return new Vector2d(this.x + v2.getX(), this.y + v2.getY());
+        return new Vector2d(this.getDoubleX() + v2.getX(), this.getDoubleY() + v2.getY());
     }
 
     /**
-     * Subtract the second vector from the first
+     * Subtract the second vector from the first, the coordinates of the second are rounded
      * Current vector - v2
      *
      * @param v2 second vector
      * @return a vector
      */
     public Vector2d subVector(final Vector2d v2) {
-        return new Vector2d(this.x - v2.getX(), this.y - v2.getY());
+        return new Vector2d(this.getDoubleX() - v2.getX(), this.getDoubleY() - v2.getY());
     }
 
     /**
@@ -178,20 +186,71 @@ public class Vector2d {
      * @return a vector
      */
     public Vector2d directionVector(final Vector2d v2) {
-        return new Vector2d(v2.getX() - this.x, v2.getY() - this.y);
+        return new Vector2d(v2.getX() - this.getDoubleX(), v2.getY() - this.getDoubleY());
+    }
+
+    /**
+     * Add two vectors without allocating
+     * result = current vector + v2
+     *
+     * @param v2     second vector
+     * @param result the vector where the sum is stored, can be one of the two
+     * @return the result vector
+     */
+    public Vector2d addInto(final Vector2d v2, final Vector2d result) {
+        result.set(this.getDoubleX() + v2.getDoubleX(), this.getDoubleY() + v2.getDoubleY());
+        return result;
+    }
+
+    /**
+     * Subtract the second vector from the first without allocating
+     * result = current vector - v2
+     *
+     * @param v2     second vector
+     * @param result the vector where the difference is stored, can be one of the two
+     * @return the result vector
+     */
+    public Vector2d subInto(final Vector2d v2, final Vector2d result) {
+        result.set(this.getDoubleX() - v2.getDoubleX(), this.getDoubleY() - v2.getDoubleY());
+        return result;
     }
 
     /**
-     * Get the euclidean distance of 2 vectors current and v2
+     * Set this vector to the one that points from the first to the second
+     * from ----> to
+     *
+     * @param from the start
+     * @param to   the end
+     * @return this vector
+     */
+    public Vector2d setDirection(final Vector2d from, final Vector2d to) {
+        this.set(to.getDoubleX() - from.getDoubleX(), to.getDoubleY() - from.getDoubleY());
+        return this;
+    }
+
+    /**
+     * Get the squared euclidean distance of 2 vectors current and v2
+     *
+     * @param v2 second vector
+     * @return the squared distance
+     */
+    public double distanceSq(final Vector2d v2) {
+        final double dx = this.getDoubleX() - v2.getDoubleX();
+        final double dy = this.getDoubleY() - v2.getDoubleY();
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Get the euclidean distance of 2 vectors current and v2, the coordinates of v2 are rounded
      *
      * @param v2 second vector
      * @return the distance
      */
     public double euclidDistance(final Vector2d v2) {
-        final double first = Math.pow(this.x - v2.getX(), 2);
-        final double second = Math.pow(this.y - v2.getY(), 2);
+        final double first = this.getDoubleX() - v2.getX();
+        final double second = this.getDoubleY() - v2.getY();
 
-        return Math.sqrt(first + second);
+        return Math.sqrt(first * first + second * second);
     }
 
     /**
@@ -219,7 +278,7 @@ public class Vector2d {
      */
     @Override
     public Vector2d clone() {
-        return new Vector2d(this.x, this.y);
+        return new Vector2d(this.getDoubleX(), this.getDoubleY());
     }
 
     /**
@@ -228,8 +287,8 @@ public class Vector2d {
     @Override
     public String toString() {
         return "Vector2d{" +
-                "x=" + x +
-                ", y=" + y +
+                "x=" + this.getDoubleX() +
+                ", y=" + this.getDoubleY() +
                 '}';
     }
 
@@ -250,4 +309,15 @@ public class Vector2d {
     public double getDoubleY() {
         return this.y;
     }
+
+    /**
+     * Get a vector of the current thread to store temporary results without allocating.
+     * The same slot returns the same vector, so it must be used only until the calculation ends
+     *
+     * @param slot the slot, from 0 to 3
+     * @return the vector
+     */
+    public static Vector2d scratch(final int slot) {
+        return SCRATCH.get()[slot];
+    }
 }
@@ -2,6 +2,7 @@ package it.unibo.cicciopier.view;
 
 import it.unibo.cicciopier.utility.Pair;
 
+import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /**
@@ -12,6 +13,7 @@ public class Animation {
     private final int frames;
     private final int speed;
     private final BufferedImage[] sprites;
+    private final BufferedImage[] mirroredSprites;
     private final int height;
     private final int width;
     private final Pair<Integer> start;
@@ -34,10 +36,11 @@ public class Animation {
         this.height = height;
         this.start = start;
         this.sprites = new BufferedImage[this.frames];
+        this.mirroredSprites = new BufferedImage[this.frames];
     }
 
     /**
-     * Load sprite
+     * Load sprite, both facing right and mirrored to face left
      */
     public void load() {
         BufferedImage image = this.texture.getTexture().getSubimage(
@@ -47,10 +50,26 @@ public class Animation {
                 this.height);
         //load all the animation
         for (int i = 0; i < this.frames; i++) {
-            this.sprites[i] = image.getSubimage(i * this.width, 0, this.width, this.height);
+            // a copy of the frame, not a view of the whole texture
+            this.sprites[i] = CompatibleImages.convert(image.getSubimage(i * this.width, 0, this.width, this.height));
+            this.mirroredSprites[i] = this.mirror(this.sprites[i]);
         }
     }
 
+    /**
+     * Create a copy of a frame flipped horizontally
+     *
+     * @param sprite the frame
+     * @return the mirrored frame
+     */
+    private BufferedImage mirror(final BufferedImage sprite) {
+        final BufferedImage mirrored = CompatibleImages.create(sprite.getWidth(), sprite.getHeight(), sprite.getTransparency());
+        final Graphics2D g = mirrored.createGraphics();
+        g.drawImage(sprite, sprite.getWidth(), 0, -sprite.getWidth(), sprite.getHeight(), null);
+        g.dispose();
+        return mirrored;
+    }
+
     /**
      * Get the frame height
      *
@@ -87,9 +106,22 @@ public class Animation {
      * @return a frame
      */
     public BufferedImage getSprite(final int frame) {
+        return this.getSprite(frame, true);
+    }
+
+    /**
+     * Get the frame in a certain position facing the given direction,
+     * if the position is out of bounds restarts
+     * the count of frames from the beginning of the array
+     *
+     * @param frame       the position
+     * @param facingRight false to get the mirrored frame
+     * @return a frame
+     */
+    public BufferedImage getSprite(final int frame, final boolean facingRight) {
         if (frame < 0) {
             return null;
         }
-        return this.sprites[frame % this.frames];
+        return facingRight ? this.sprites[frame % this.frames] : this.mirroredSprites[frame % this.frames];
     }
 }
@@ -0,0 +1,71 @@
+package it.unibo.cicciopier.view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+
+/**
+ * Utility class to create images in the format of the display, which Java2D can draw without
+ * converting them and can keep accelerated. Headless runs get plain integer RGB images.
+ */
+public final class CompatibleImages {
+
+    private CompatibleImages() {
+    }
+
+    /**
+     * Create an image compatible with the display.
+     *
+     * @param width        the width
+     * @param height       the height
+     * @param transparency the transparency mode, one of the {@link Transparency} values
+     * @return the image
+     */
+    public static BufferedImage create(final int width, final int height, final int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height,
+                    transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, transparency);
+    }
+
+    /**
+     * Create a translucent image compatible with the display.
+     *
+     * @param width  the width
+     * @param height the height
+     * @return the image
+     */
+    public static BufferedImage create(final int width, final int height) {
+        return CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Copy an image in a new one compatible with the display, keeping its transparency mode.
+     *
+     * @param image the image
+     * @return the compatible copy
+     */
+    public static BufferedImage convert(final BufferedImage image) {
+        final BufferedImage compatible = CompatibleImages.create(image.getWidth(), image.getHeight(), image.getTransparency());
+        final Graphics2D g = compatible.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+
+    /**
+     * Get the memory used by the pixels of an image.
+     *
+     * @param image the image
+     * @return the size in bytes
+     */
+    public static long getBytes(final BufferedImage image) {
+        final DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / Byte.SIZE;
+    }
+
+}
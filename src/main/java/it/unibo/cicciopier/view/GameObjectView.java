@@ -1,5 +1,7 @@
 package it.unibo.cicciopier.view;
 
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
+
 import java.awt.*;
 
 /**
@@ -8,9 +10,25 @@ import java.awt.*;
 public interface GameObjectView {
 
     /**
-     * Render the game object.
-     * @param g graphic context
+     * Render the game object from a snapshot of its state.
+     * @param g        graphic context
+     * @param snapshot the game object snapshot
+     */
+    void render(final Graphics g, final ObjectSnapshot snapshot);
+
+    /**
+     * Copy in the snapshot what is needed to render the game object, called once per tick
+     * after the position has been copied.
+     *
+     * @param snapshot the game object snapshot
+     */
+    default void capture(final ObjectSnapshot snapshot) {
+    }
+
+    /**
+     * Update the game object animation, called once per tick.
      */
-    void render(final Graphics g);
+    default void update() {
+    }
 
 }
@@ -1,24 +1,42 @@
 package it.unibo.cicciopier.view;
 
 import it.unibo.cicciopier.controller.Engine;
+import it.unibo.cicciopier.controller.GameLoop;
+import it.unibo.cicciopier.controller.GameState;
 import it.unibo.cicciopier.controller.Input;
+import it.unibo.cicciopier.model.settings.ActiveRendering;
+import it.unibo.cicciopier.model.settings.DeveloperMode;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.level.*;
+import it.unibo.cicciopier.view.snapshot.SnapshotBuffer;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
+import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
 
 /**
  * Simple implementation of the interface {@link View}.
+ * If {@link ActiveRendering} is active, while the game is running it's drawn on a {@link LevelCanvas}
+ * by the render thread, otherwise every panel is repainted by swing.
+ * The latest snapshot is read once per frame and given to every panel, so they all draw the same tick.
  */
 public final class GameView extends JLayeredPane implements View, KeyListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameView.class);
     private final Engine engine;
+    private final SnapshotBuffer snapshots;
     private final LevelView level;
     private final HudView hud;
     private final LevelPausedView paused;
     private final LevelOverView over;
     private final LevelWonView won;
+    private final LevelCanvas canvas;
+    private WorldSnapshot frame;
 
     /**
      * Constructor for this class.
@@ -27,11 +45,15 @@ public final class GameView extends JLayeredPane implements View, KeyListener {
      */
     public GameView(final Engine engine) {
         this.engine = engine;
-        this.level = new LevelView(engine);
-        this.hud = new HudView(engine);
-        this.paused = new LevelPausedView(engine);
-        this.over = new LevelOverView(engine);
-        this.won = new LevelWonView(engine);
+        this.snapshots = new SnapshotBuffer();
+        this.frame = this.snapshots.getLatest();
+        final Supplier<WorldSnapshot> frame = () -> this.frame;
+        this.level = new LevelView(engine, frame);
+        this.hud = new HudView(frame);
+        this.paused = new LevelPausedView(engine, frame);
+        this.over = new LevelOverView(engine, frame);
+        this.won = new LevelWonView(engine, frame);
+        this.canvas = ActiveRendering.isActive() ? new LevelCanvas(this.level, this.hud) : null;
     }
 
     /**
@@ -62,6 +84,13 @@ public final class GameView extends JLayeredPane implements View, KeyListener {
         this.won.setPreferredSize(Screen.getCurrentDimension());
         this.won.load();
         this.add(this.won, Integer.valueOf(4));
+        // Setup canvas on top of everything
+        if (this.canvas != null) {
+            this.canvas.setPreferredSize(Screen.getCurrentDimension());
+            this.canvas.load();
+            this.canvas.addKeyListener(this);
+            this.add(this.canvas, Integer.valueOf(5));
+        }
         // Setup key listener
         this.addKeyListener(this);
     }
@@ -79,7 +108,66 @@ public final class GameView extends JLayeredPane implements View, KeyListener {
      */
     @Override
     public void render() {
-        this.repaint();
+        if (this.canvas == null) {
+            this.repaint();
+            return;
+        }
+        // the buttons of the other states are swing components, so they're drawn by swing
+        final boolean running = this.engine.getState() == GameState.RUNNING;
+        if (running != this.canvas.isVisible()) {
+            try {
+                SwingUtilities.invokeAndWait(() -> this.setCanvasVisible(running));
+            } catch (InterruptedException | InvocationTargetException e) {
+                LOGGER.error("Error switching rendering mode...", e);
+                return;
+            }
+        }
+        if (running) {
+            this.canvas.render(this.snapshots.getLatest());
+        } else {
+            this.repaint();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void paintChildren(final Graphics g) {
+        // while the canvas is shown the snapshots are read by the render thread
+        if (this.canvas == null || !this.canvas.isVisible()) {
+            this.frame = this.snapshots.getLatest();
+        }
+        super.paintChildren(g);
+    }
+
+    /**
+     * Show the canvas and hide the panels it covers, or the other way round.
+     * Only one of them is drawn at a time, so the snapshots are read by one thread only.
+     *
+     * @param visible true to show the canvas
+     */
+    private void setCanvasVisible(final boolean visible) {
+        this.level.setVisible(!visible);
+        this.hud.setVisible(!visible);
+        this.canvas.setVisible(visible);
+        if (visible) {
+            this.canvas.requestFocusInWindow();
+        } else {
+            this.requestFocusInWindow();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
+        // animations go on only while the game is running
+        if (this.engine.getState() == GameState.RUNNING) {
+            this.level.update();
+        }
+        this.snapshots.publish(this.engine.getWorld());
     }
 
     /**
@@ -115,6 +203,20 @@ public final class GameView extends JLayeredPane implements View, KeyListener {
             case KeyEvent.VK_F:
                 this.engine.getInput().setPressed(Input.ATTACK);
                 break;
+            case KeyEvent.VK_PERIOD:
+                // fast-forward, past the max speed ticks are uncapped - developing purposes
+                if (DeveloperMode.isActive()) {
+                    final double faster = this.engine.getTimeScale() * 2;
+                    this.engine.setTimeScale(faster > GameLoop.MAX_TIME_SCALE ? GameLoop.UNCAPPED : faster);
+                }
+                break;
+            case KeyEvent.VK_COMMA:
+                // slow down, from uncapped back to the max speed - developing purposes
+                if (DeveloperMode.isActive()) {
+                    final double scale = this.engine.getTimeScale();
+                    this.engine.setTimeScale(scale == GameLoop.UNCAPPED ? GameLoop.MAX_TIME_SCALE : scale / 2);
+                }
+                break;
         }
     }
 
@@ -0,0 +1,119 @@
+package it.unibo.cicciopier.view;
+
+import it.unibo.cicciopier.model.settings.Screen;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cache of a texture rotated around a pivot, pre-rendered at the current screen scale for a fixed
+ * number of angles, so rotating sprites are drawn without transforming the graphics on every frame.
+ * Angles are rounded to the nearest step, steps are rendered the first time they're needed and
+ * dropped when {@link Screen#getScale()} changes.
+ * Used only by the thread that renders the level.
+ */
+public final class RotationCache {
+    /**
+     * Default number of angles in a full turn.
+     */
+    public static final int DEFAULT_STEPS = 64;
+    private static final double FULL_TURN = Math.PI * 2;
+    private final Texture texture;
+    private final double pivotX;
+    private final double pivotY;
+    private final Object interpolation;
+    private final BufferedImage[] rotations;
+    private double scale;
+    private int radius;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param texture       the texture to rotate
+     * @param pivotX        the x of the pivot, from the left of the texture
+     * @param pivotY        the y of the pivot, from the top of the texture
+     * @param steps         the number of angles in a full turn
+     * @param interpolation the interpolation used when rotating, one of the
+     *                      {@link RenderingHints#KEY_INTERPOLATION} values
+     */
+    public RotationCache(final Texture texture, final double pivotX, final double pivotY, final int steps, final Object interpolation) {
+        this.texture = texture;
+        this.pivotX = pivotX;
+        this.pivotY = pivotY;
+        this.interpolation = interpolation;
+        this.rotations = new BufferedImage[steps];
+        this.scale = 0;
+        this.radius = 0;
+    }
+
+    /**
+     * Constructor for this class, with {@link #DEFAULT_STEPS} angles and nearest neighbour interpolation,
+     * like drawing the texture rotated.
+     *
+     * @param texture the texture to rotate
+     * @param pivotX  the x of the pivot, from the left of the texture
+     * @param pivotY  the y of the pivot, from the top of the texture
+     */
+    public RotationCache(final Texture texture, final double pivotX, final double pivotY) {
+        this(texture, pivotX, pivotY, DEFAULT_STEPS, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    /**
+     * Draw the texture rotated around the pivot.
+     *
+     * @param g     graphic context
+     * @param angle the rotation in radians
+     * @param x     the x of the pivot in the world
+     * @param y     the y of the pivot in the world
+     */
+    public void draw(final Graphics g, final double angle, final double x, final double y) {
+        if (this.scale != Screen.getScale()) {
+            for (int i = 0; i < this.rotations.length; i++) {
+                if (this.rotations[i] != null) {
+                    this.rotations[i].flush();
+                    this.rotations[i] = null;
+                }
+            }
+            this.scale = Screen.getScale();
+            this.radius = this.computeRadius();
+        }
+        final int step = Math.floorMod((int) Math.round(angle / FULL_TURN * this.rotations.length), this.rotations.length);
+        if (this.rotations[step] == null) {
+            this.rotations[step] = this.rotate(step);
+        }
+        g.drawImage(this.rotations[step], Screen.scale(x) - this.radius, Screen.scale(y) - this.radius, null);
+    }
+
+    /**
+     * Get the distance between the pivot and the farthest corner of the scaled texture,
+     * every rotation fits in a square of twice this size centered on the pivot.
+     *
+     * @return the radius in pixels
+     */
+    private int computeRadius() {
+        final double width = this.texture.getTexture().getWidth();
+        final double height = this.texture.getTexture().getHeight();
+        final double dx = Math.max(this.pivotX, width - this.pivotX);
+        final double dy = Math.max(this.pivotY, height - this.pivotY);
+        return (int) Math.ceil(Screen.getScale() * Math.hypot(dx, dy));
+    }
+
+    /**
+     * Render the texture rotated by a step.
+     *
+     * @param step the step
+     * @return the rotated texture
+     */
+    private BufferedImage rotate(final int step) {
+        final BufferedImage sprite = SpriteCache.get(this.texture.getTexture());
+        final BufferedImage rotated = CompatibleImages.create(2 * this.radius, 2 * this.radius);
+        final Graphics2D g = rotated.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, this.interpolation);
+        g.translate(this.radius, this.radius);
+        g.rotate(FULL_TURN * step / this.rotations.length);
+        g.drawImage(sprite, -Screen.scale(this.pivotX), -Screen.scale(this.pivotY), null);
+        g.dispose();
+        return rotated;
+    }
+
+}
@@ -0,0 +1,170 @@
+package it.unibo.cicciopier.view;
+
+import it.unibo.cicciopier.model.settings.Screen;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of sprites already scaled to the current screen scale, so they're drawn 1:1 instead of
+ * being scaled by Java2D on every frame. Sprites are stored by source image, size and mirroring,
+ * and dropped when {@link Screen#getScale()} changes.
+ * Images that fill the view, like backgrounds, are stored by their size on the screen instead.
+ * Used only by the thread that renders the level.
+ */
+public final class SpriteCache {
+    private static final Map<Key, BufferedImage> SPRITES = new HashMap<>();
+    private static final Key LOOKUP = new Key();
+    private static double scale = Screen.getScale();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Get a sprite scaled to the current screen scale.
+     *
+     * @param sprite   the source sprite
+     * @param width    the width of the sprite in the world
+     * @param height   the height of the sprite in the world
+     * @param mirrored true to flip the sprite horizontally
+     * @return the scaled sprite, {@link Screen#scale(double)} of width and height big
+     */
+    public static BufferedImage get(final BufferedImage sprite, final int width, final int height, final boolean mirrored) {
+        return SpriteCache.lookup(sprite, width, height, mirrored, false);
+    }
+
+    /**
+     * Get a sprite resized to a size on the screen, not affected by the screen scale.
+     *
+     * @param sprite the source sprite
+     * @param width  the width of the sprite on the screen
+     * @param height the height of the sprite on the screen
+     * @return the resized sprite, width and height big
+     */
+    public static BufferedImage getResized(final BufferedImage sprite, final int width, final int height) {
+        return SpriteCache.lookup(sprite, width, height, false, true);
+    }
+
+    /**
+     * Get a sprite scaled to the current screen scale.
+     *
+     * @param sprite the source sprite
+     * @return the scaled sprite
+     */
+    public static BufferedImage get(final BufferedImage sprite) {
+        return SpriteCache.get(sprite, sprite.getWidth(), sprite.getHeight(), false);
+    }
+
+    /**
+     * Get a sprite from the cache, scaling it on the first request.
+     *
+     * @param sprite   the source sprite
+     * @param width    the width of the sprite
+     * @param height   the height of the sprite
+     * @param mirrored true to flip the sprite horizontally
+     * @param screen   true if the size is on the screen, false if it's in the world
+     * @return the scaled sprite
+     */
+    private static BufferedImage lookup(final BufferedImage sprite, final int width, final int height,
+                                        final boolean mirrored, final boolean screen) {
+        if (SpriteCache.scale != Screen.getScale()) {
+            SpriteCache.SPRITES.values().forEach(Image::flush);
+            SpriteCache.SPRITES.clear();
+            SpriteCache.scale = Screen.getScale();
+        }
+        SpriteCache.LOOKUP.set(sprite, width, height, mirrored, screen);
+        BufferedImage scaled = SpriteCache.SPRITES.get(SpriteCache.LOOKUP);
+        if (scaled == null) {
+            if (screen) {
+                scaled = SpriteCache.resize(sprite, width, height, mirrored);
+            } else {
+                scaled = SpriteCache.resize(sprite, Screen.scale(width), Screen.scale(height), mirrored);
+            }
+            final Key key = new Key();
+            key.set(sprite, width, height, mirrored, screen);
+            SpriteCache.SPRITES.put(key, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * Resize a sprite.
+     *
+     * @param sprite   the source sprite
+     * @param width    the width of the sprite on the screen
+     * @param height   the height of the sprite on the screen
+     * @param mirrored true to flip the sprite horizontally
+     * @return the resized sprite
+     */
+    private static BufferedImage resize(final BufferedImage sprite, final int width, final int height, final boolean mirrored) {
+        final int scaledWidth = Math.max(1, width);
+        final int scaledHeight = Math.max(1, height);
+        final BufferedImage scaled = CompatibleImages.create(scaledWidth, scaledHeight, sprite.getTransparency());
+        final Graphics2D g = scaled.createGraphics();
+        // nearest neighbour, like drawing the sprite scaled
+        if (mirrored) {
+            g.drawImage(sprite, scaledWidth, 0, -scaledWidth, scaledHeight, null);
+        } else {
+            g.drawImage(sprite, 0, 0, scaledWidth, scaledHeight, null);
+        }
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Key of a scaled sprite, source images are compared by identity.
+     */
+    private static final class Key {
+        private BufferedImage sprite;
+        private int width;
+        private int height;
+        private boolean mirrored;
+        private boolean screen;
+
+        /**
+         * Set the values of this key.
+         *
+         * @param sprite   the source sprite
+         * @param width    the width
+         * @param height   the height
+         * @param mirrored true if mirrored
+         * @param screen   true if the size is on the screen
+         */
+        private void set(final BufferedImage sprite, final int width, final int height, final boolean mirrored,
+                         final boolean screen) {
+            this.sprite = sprite;
+            this.width = width;
+            this.height = height;
+            this.mirrored = mirrored;
+            this.screen = screen;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.sprite == key.sprite
+                    && this.width == key.width
+                    && this.height == key.height
+                    && this.mirrored == key.mirrored
+                    && this.screen == key.screen;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(this.sprite);
+            result = 31 * result + this.width;
+            result = 31 * result + this.height;
+            result = 31 * result + (this.mirrored ? 1 : 0);
+            return 31 * result + (this.screen ? 1 : 0);
+        }
+    }
+
+}
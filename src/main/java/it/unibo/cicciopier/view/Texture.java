@@ -364,8 +364,23 @@ public enum Texture {
         if (is == null) {
             throw new NullPointerException("File " + this.fileName + " does not exists!");
         }
-        this.img = ImageIO.read(is);
+        final BufferedImage read = ImageIO.read(is);
         is.close();
+        if (read == null) {
+            throw new IllegalArgumentException("File " + this.fileName + " is not an image!");
+        }
+        // converted once, so it's never converted when drawn
+        this.img = CompatibleImages.convert(read);
+        LOGGER.info("Texture {} is {}x{}, {} bytes", this.name(), this.img.getWidth(), this.img.getHeight(), this.getBytes());
+    }
+
+    /**
+     * Get the memory used by the texture pixels.
+     *
+     * @return the size in bytes
+     */
+    public long getBytes() {
+        return CompatibleImages.getBytes(this.img);
     }
 
     /**
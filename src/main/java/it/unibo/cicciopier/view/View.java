@@ -22,4 +22,9 @@ public interface View {
      */
     void render();
 
+    /**
+     * Update the game window with the state of the last tick, called once per tick by the game thread.
+     */
+    void update();
+
 }
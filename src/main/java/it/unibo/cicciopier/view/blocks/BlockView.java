@@ -5,6 +5,7 @@ import it.unibo.cicciopier.model.blocks.base.BlockType;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.GameObjectView;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
 
@@ -27,7 +28,7 @@ public class BlockView implements GameObjectView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
         if (this.block.getType() == BlockType.AIR) {
             return;
         }
@@ -35,10 +36,10 @@ public class BlockView implements GameObjectView {
         final int x = block.getType().ordinal() % blockPerRow * Block.SIZE;
         final int y = block.getType().ordinal() / blockPerRow * Block.SIZE;
         g.drawImage(Texture.BLOCK.getTexture(),
-                Screen.scale(this.block.getPos().getX()),
-                Screen.scale(this.block.getPos().getY()),
-                Screen.scale(this.block.getPos().getX() + Block.SIZE),
-                Screen.scale(this.block.getPos().getY() + Block.SIZE),
+                Screen.scale(snapshot.getX()),
+                Screen.scale(snapshot.getY()),
+                Screen.scale(snapshot.getX() + Block.SIZE),
+                Screen.scale(snapshot.getY() + Block.SIZE),
                 x,
                 y,
                 x + Block.SIZE,
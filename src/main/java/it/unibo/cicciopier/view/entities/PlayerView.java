@@ -6,7 +6,9 @@ import it.unibo.cicciopier.model.entities.base.LivingEntity;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.utility.Pair;
 import it.unibo.cicciopier.view.Animation;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
 import java.util.HashMap;
@@ -54,23 +56,37 @@ public class PlayerView extends SimpleLivingEntityView {
     }
 
     @Override
-    public void render(Graphics g) {
-        super.render(g);
-        if (this.player.hasTakenDamage() && this.bloodAnimationTicks == -1) {
-            this.bloodAnimationTicks = 0;
-        }
-        if (this.bloodAnimationTicks != -1) {
-            g.drawImage(BLOOD_ANIMATION.getSprite(bloodAnimationTicks / BLOOD_ANIMATION.getSpeed()),
-                    Screen.scale(this.player.getPos().getX() + this.player.getWidth() * 0.5 - BLOOD_ANIMATION.getWidth() * 0.5),
-                    Screen.scale(this.player.getPos().getY() + this.player.getHeight() * 0.25),
-                    Screen.scale(BLOOD_ANIMATION.getWidth()),
-                    Screen.scale(BLOOD_ANIMATION.getHeight()),
+    public void render(Graphics g, ObjectSnapshot snapshot) {
+        super.render(g, snapshot);
+        if (snapshot.getOverlayFrame() != -1) {
+            g.drawImage(SpriteCache.get(BLOOD_ANIMATION.getSprite(snapshot.getOverlayFrame()),
+                            BLOOD_ANIMATION.getWidth(), BLOOD_ANIMATION.getHeight(), false),
+                    Screen.scale(snapshot.getX() + snapshot.getWidth() * 0.5 - BLOOD_ANIMATION.getWidth() * 0.5),
+                    Screen.scale(snapshot.getY() + snapshot.getHeight() * 0.25),
                     null
             );
+        }
+    }
+
+    @Override
+    public void capture(ObjectSnapshot snapshot) {
+        super.capture(snapshot);
+        if (this.bloodAnimationTicks != -1) {
+            snapshot.setOverlayFrame(this.bloodAnimationTicks / BLOOD_ANIMATION.getSpeed());
+        }
+    }
+
+    @Override
+    public void update() {
+        super.update();
+        if (this.bloodAnimationTicks != -1) {
             this.bloodAnimationTicks++;
             if (this.bloodAnimationTicks >= BLOOD_PARTICLE_DURATION) {
                 this.bloodAnimationTicks = -1;
             }
         }
+        if (this.player.hasTakenDamage() && this.bloodAnimationTicks == -1) {
+            this.bloodAnimationTicks = 0;
+        }
     }
 }
@@ -4,6 +4,8 @@ import it.unibo.cicciopier.model.settings.DeveloperMode;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.utility.Pair;
 import it.unibo.cicciopier.view.Animation;
+import it.unibo.cicciopier.view.SpriteCache;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
 
@@ -65,34 +67,51 @@ public abstract class SimpleEntityView implements EntityView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
-        if (this.getObject().isRemoved()) {
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
+        if (snapshot.isRemoved()) {
             return;
         }
-        final Animation animation = getAnimation();
-        g.drawImage(animation.getSprite(this.getAnimationTicks() / animation.getSpeed()),
-                Screen.scale(this.getObject().getPos().getX() + this.getTextureOffSet().getX()),
-                Screen.scale(this.getObject().getPos().getY() + this.getTextureOffSet().getY()),
-                Screen.scale(animation.getWidth()),
-                Screen.scale(animation.getHeight()),
+        final Animation animation = snapshot.getAnimation();
+        g.drawImage(SpriteCache.get(animation.getSprite(snapshot.getFrame()), animation.getWidth(), animation.getHeight(), false),
+                Screen.scale(snapshot.getX() + this.getTextureOffSet().getX()),
+                Screen.scale(snapshot.getY() + this.getTextureOffSet().getY()),
                 null
         );
-        this.renderBounds(g);
+        this.renderBounds(g, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        final Animation animation = this.getAnimation();
+        snapshot.setType(this.getObject().getType());
+        snapshot.setRemoved(this.getObject().isRemoved());
+        snapshot.setAnimation(animation, this.getAnimationTicks() / animation.getSpeed());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
         this.increaseAnimationTicks();
     }
 
     /**
      * Render the bounds
      *
-     * @param g graphic context
+     * @param g        graphic context
+     * @param snapshot the entity snapshot
      */
-    public void renderBounds(final Graphics g) {
+    public void renderBounds(final Graphics g, final ObjectSnapshot snapshot) {
         if (DeveloperMode.isActive()) {
             g.setColor(Color.BLACK);
-            g.drawRect(Screen.scale(this.getObject().getPos().getX()),
-                    Screen.scale(this.getObject().getPos().getY()),
-                    Screen.scale(this.getObject().getWidth() - 1),
-                    Screen.scale(this.getObject().getHeight() - 1)
+            g.drawRect(Screen.scale(snapshot.getX()),
+                    Screen.scale(snapshot.getY()),
+                    Screen.scale(snapshot.getWidth() - 1),
+                    Screen.scale(snapshot.getHeight() - 1)
             );
         }
     }
@@ -2,8 +2,11 @@ package it.unibo.cicciopier.view.entities;
 
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.Animation;
+import it.unibo.cicciopier.view.SpriteCache;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 /**
  * Simple class to render a living entity
@@ -14,35 +17,51 @@ public abstract class SimpleLivingEntityView extends SimpleEntityView implements
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
-        if (this.getObject().isRemoved()) {
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
+        if (snapshot.isRemoved()) {
             return;
         }
-        //if the entity state changed, reset the counter
-        if (this.getObject().getOldState() != this.getObject().getCurrentState()) {
-            this.resetAnimationTicks();
-        }
-        final Animation animation = getAnimation();
-        if (this.getObject().isFacingRight()) {
+        final Animation animation = snapshot.getAnimation();
+        final BufferedImage sprite = SpriteCache.get(animation.getSprite(snapshot.getFrame(), snapshot.isFacingRight()),
+                animation.getWidth(), animation.getHeight(), false);
+        if (snapshot.isFacingRight()) {
             //looking right
-            g.drawImage(animation.getSprite(this.getAnimationTicks() / animation.getSpeed()),
-                    Screen.scale(this.getObject().getPos().getX() + this.getTextureOffSet().getX()),
-                    Screen.scale(this.getObject().getPos().getY() + this.getTextureOffSet().getY()),
-                    Screen.scale(animation.getWidth()),
-                    Screen.scale(animation.getHeight()),
+            g.drawImage(sprite,
+                    Screen.scale(snapshot.getX() + this.getTextureOffSet().getX()),
+                    Screen.scale(snapshot.getY() + this.getTextureOffSet().getY()),
                     null
             );
         } else {
-            //looking left
-            g.drawImage(animation.getSprite(this.getAnimationTicks() / animation.getSpeed()),
-                    Screen.scale(this.getObject().getPos().getX() + this.getObject().getWidth() - this.getTextureOffSet().getX()),
-                    Screen.scale(this.getObject().getPos().getY() + this.getTextureOffSet().getY()),
-                    Screen.scale(-animation.getWidth()),
-                    Screen.scale(animation.getHeight()),
+            //looking left, the mirrored sprite ends where the offset starts
+            g.drawImage(sprite,
+                    Screen.scale(snapshot.getX() + snapshot.getWidth() - this.getTextureOffSet().getX()) - sprite.getWidth(),
+                    Screen.scale(snapshot.getY() + this.getTextureOffSet().getY()),
                     null
             );
         }
-        this.renderBounds(g);
-        this.increaseAnimationTicks();
+        this.renderBounds(g, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        super.capture(snapshot);
+        snapshot.setState(this.getObject().getCurrentState());
+        snapshot.setFacingRight(this.getObject().isFacingRight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
+        //if the entity state changed, reset the counter
+        if (this.getObject().getOldState() != this.getObject().getCurrentState()) {
+            this.resetAnimationTicks();
+        } else {
+            this.increaseAnimationTicks();
+        }
     }
 }
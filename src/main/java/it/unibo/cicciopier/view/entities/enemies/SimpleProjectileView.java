@@ -4,7 +4,9 @@ import it.unibo.cicciopier.model.entities.enemies.SimpleProjectile;
 import it.unibo.cicciopier.model.settings.DeveloperMode;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.GameObjectView;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
 
@@ -30,34 +32,37 @@ abstract class SimpleProjectileView implements GameObjectView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
-        int colLeft = 0;
-        int colRight = this.projectile.getWidth();
-        if (this.projectile.getVel().getX() < 0) {
-            colLeft = this.projectile.getWidth();
-            colRight = 0;
-        }
-        g.drawImage(this.texture.getTexture(),
-                Screen.scale(this.projectile.getPos().getX()),
-                Screen.scale(this.projectile.getPos().getY()),
-                Screen.scale(this.projectile.getPos().getX() + this.projectile.getWidth()),
-                Screen.scale(this.projectile.getPos().getY() + this.projectile.getHeight()),
-                colLeft, 0, colRight, this.projectile.getHeight(), null);
-        this.renderBounds(g);
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
+        // the texture has the size of the projectile, mirrored when going left
+        g.drawImage(SpriteCache.get(this.texture.getTexture(), snapshot.getWidth(), snapshot.getHeight(), !snapshot.isFacingRight()),
+                Screen.scale(snapshot.getX()),
+                Screen.scale(snapshot.getY()),
+                null);
+        this.renderBounds(g, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        snapshot.setType(this.projectile.getType());
+        snapshot.setFacingRight(this.projectile.getVel().getX() >= 0);
     }
 
     /**
      * Render the bounds
      *
-     * @param g graphic context
+     * @param g        graphic context
+     * @param snapshot the projectile snapshot
      */
-    public void renderBounds(final Graphics g) {
+    public void renderBounds(final Graphics g, final ObjectSnapshot snapshot) {
         if (DeveloperMode.isActive()) {
             g.setColor(Color.BLACK);
-            g.drawRect(Screen.scale(this.projectile.getPos().getX()),
-                    Screen.scale(this.projectile.getPos().getY()),
-                    Screen.scale(this.projectile.getWidth() - 1),
-                    Screen.scale(this.projectile.getHeight() - 1)
+            g.drawRect(Screen.scale(snapshot.getX()),
+                    Screen.scale(snapshot.getY()),
+                    Screen.scale(snapshot.getWidth() - 1),
+                    Screen.scale(snapshot.getHeight() - 1)
             );
         }
     }
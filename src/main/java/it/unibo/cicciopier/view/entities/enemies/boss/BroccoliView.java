@@ -7,10 +7,13 @@ import it.unibo.cicciopier.model.entities.enemies.boss.Broccoli;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.utility.Pair;
 import it.unibo.cicciopier.view.Animation;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 import it.unibo.cicciopier.view.entities.SimpleEntityView;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -64,27 +67,25 @@ public class BroccoliView extends SimpleEntityView {
      * {@inheritDoc}
      */
     @Override
-    public void render(Graphics g) {
-        super.render(g);
+    public void render(Graphics g, ObjectSnapshot snapshot) {
+        super.render(g, snapshot);
         //draw boss healthBar
-        g.drawImage(Texture.ENTITY_HEALTH_BAR_DECORATION.getTexture(),
-                Screen.scale(this.broccoli.getPos().getX() - 30),
-                Screen.scale(this.broccoli.getPos().getY() - 60),
-                Screen.scale(Texture.ENTITY_HEALTH_BAR_DECORATION.getTexture().getWidth()),
-                Screen.scale(Texture.ENTITY_HEALTH_BAR_DECORATION.getTexture().getHeight()),
-                null
-        );
-        final int currentHealth = (this.broccoli.getHp() * Texture.ENTITY_HEALTH_BAR.getTexture().getWidth()) /
-                this.broccoli.getMaxHp();
+        final int x = Screen.scale(snapshot.getX() - 30);
+        final int y = Screen.scale(snapshot.getY() - 60);
+        g.drawImage(SpriteCache.get(Texture.ENTITY_HEALTH_BAR_DECORATION.getTexture()), x, y, null);
+        final int currentHealth = (snapshot.getHp() * Texture.ENTITY_HEALTH_BAR.getTexture().getWidth()) /
+                snapshot.getMaxHp();
         if (currentHealth > 0) {
-            g.drawImage(Texture.ENTITY_HEALTH_BAR.getTexture()
-                            .getSubimage(0, 0, currentHealth, Texture.ENTITY_HEALTH_BAR.getTexture().getHeight()),
-                    Screen.scale(this.broccoli.getPos().getX() - 30),
-                    Screen.scale(this.broccoli.getPos().getY() - 60),
-                    Screen.scale(currentHealth),
-                    Screen.scale(Texture.ENTITY_HEALTH_BAR.getTexture().getHeight()),
-                    null
-            );
+            //draw only the left part of the scaled bar
+            final BufferedImage bar = SpriteCache.get(Texture.ENTITY_HEALTH_BAR.getTexture());
+            final int width = Screen.scale(currentHealth);
+            g.drawImage(bar, x, y, x + width, y + bar.getHeight(), 0, 0, width, bar.getHeight(), null);
         }
     }
+
+    @Override
+    public void capture(ObjectSnapshot snapshot) {
+        super.capture(snapshot);
+        snapshot.setHp(this.broccoli.getHp(), this.broccoli.getMaxHp());
+    }
 }
@@ -6,6 +6,7 @@ import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.utility.Pair;
 import it.unibo.cicciopier.view.Animation;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 import it.unibo.cicciopier.view.entities.SimpleEntityView;
 
 import java.awt.*;
@@ -32,18 +33,28 @@ public class LaserView extends SimpleEntityView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
         final Graphics2D g2d = (Graphics2D) g;
         final Stroke defaultStroke = g2d.getStroke();
         g2d.setColor(Color.RED);
         g2d.setStroke(new BasicStroke(4F));
-        g2d.drawLine(Screen.scale(this.laser.getStartLine().getX()),
-                Screen.scale(this.laser.getStartLine().getY()),
-                Screen.scale(this.laser.getEndLine().getX()),
-                Screen.scale(this.laser.getEndLine().getY())
+        g2d.drawLine(Screen.scale(snapshot.getLineStartX()),
+                Screen.scale(snapshot.getLineStartY()),
+                Screen.scale(snapshot.getLineEndX()),
+                Screen.scale(snapshot.getLineEndY())
         );
         g2d.setStroke(defaultStroke);
-        super.render(g);
+        super.render(g, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        super.capture(snapshot);
+        snapshot.setLine(this.laser.getStartLine().getDoubleX(), this.laser.getStartLine().getDoubleY(),
+                this.laser.getEndLine().getDoubleX(), this.laser.getEndLine().getDoubleY());
     }
 
     /**
@@ -1,12 +1,12 @@
 package it.unibo.cicciopier.view.entities.enemies.boss;
 
 import it.unibo.cicciopier.model.entities.enemies.boss.Meteor;
-import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.GameObjectView;
+import it.unibo.cicciopier.view.RotationCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 
 /**
  * Simple class to render a meteor
@@ -14,6 +14,10 @@ import java.awt.geom.AffineTransform;
 public class MeteorView implements GameObjectView {
     private static final double ANGULAR_VELOCITY = (Math.PI * 0.9) / 180;
     private static final double MAX_ANGLE = Math.PI * 2;
+    /**
+     * Meteor texture rotated around its center.
+     */
+    private static final RotationCache ROTATIONS = new RotationCache(Texture.METEOR, 32, 32);
     private final Meteor meteor;
     private double currentAngle;
 
@@ -41,21 +45,27 @@ public class MeteorView implements GameObjectView {
      * {@inheritDoc}
      */
     @Override
-    public void render(Graphics g) {
-        this.rotateMeteor();
-        final Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldXForm = g2d.getTransform();
-        g2d.rotate(this.currentAngle,
-                Screen.scale(this.meteor.getPos().getX() + this.meteor.getWidth() / 2d),
-                Screen.scale(this.meteor.getPos().getY() + this.meteor.getHeight() / 2d)
+    public void render(Graphics g, ObjectSnapshot snapshot) {
+        ROTATIONS.draw(g, snapshot.getAngle(),
+                snapshot.getX() + snapshot.getWidth() / 2d,
+                snapshot.getY() + snapshot.getHeight() / 2d
         );
-        g2d.drawImage(Texture.METEOR.getTexture(),
-                Screen.scale(this.meteor.getPos().getX()),
-                Screen.scale(this.meteor.getPos().getY()),
-                Screen.scale(Texture.METEOR.getTexture().getWidth()),
-                Screen.scale(Texture.METEOR.getTexture().getHeight()),
-                null
-        );
-        g2d.setTransform(oldXForm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        snapshot.setType(this.meteor.getType());
+        snapshot.setAngle(this.currentAngle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update() {
+        this.rotateMeteor();
     }
 }
@@ -1,17 +1,21 @@
 package it.unibo.cicciopier.view.entities.enemies.boss;
 
 import it.unibo.cicciopier.model.entities.enemies.boss.Missile;
-import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.GameObjectView;
+import it.unibo.cicciopier.view.RotationCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 
 /**
  * Simple class to create a missile view
  */
 public class MissileView implements GameObjectView {
+    /**
+     * Missile texture rotated around the missile position.
+     */
+    private static final RotationCache ROTATIONS = new RotationCache(Texture.MISSILE, 15, 5);
     private final Missile missile;
 
     /**
@@ -27,20 +31,16 @@ public class MissileView implements GameObjectView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
-        final Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldXForm = g2d.getTransform();
-        g2d.rotate(Math.PI / 2 + this.missile.getVel().getAngle(),
-                Screen.scale(this.missile.getPos().getX()),
-                Screen.scale(this.missile.getPos().getY())
-        );
-        g2d.drawImage(Texture.MISSILE.getTexture(),
-                Screen.scale(this.missile.getPos().getX() - 15),
-                Screen.scale(this.missile.getPos().getY() - 5),
-                Screen.scale(Texture.MISSILE.getTexture().getWidth()),
-                Screen.scale(Texture.MISSILE.getTexture().getHeight()),
-                null
-        );
-        g2d.setTransform(oldXForm);
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
+        ROTATIONS.draw(g, snapshot.getAngle(), snapshot.getX(), snapshot.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        snapshot.setType(this.missile.getType());
+        snapshot.setAngle(Math.PI / 2 + this.missile.getVel().getAngle());
     }
 }
@@ -4,7 +4,9 @@ import it.unibo.cicciopier.model.entities.base.Entity;
 import it.unibo.cicciopier.model.settings.DeveloperMode;
 import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.GameObjectView;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
 
@@ -30,29 +32,36 @@ public class StaticItemView implements GameObjectView {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Graphics g) {
-        g.drawImage(this.texture.getTexture(),
-                Screen.scale(this.entity.getPos().getX()),
-                Screen.scale(this.entity.getPos().getY()),
-                Screen.scale(this.texture.getTexture().getWidth()),
-                Screen.scale(this.texture.getTexture().getHeight()),
+    public void render(final Graphics g, final ObjectSnapshot snapshot) {
+        g.drawImage(SpriteCache.get(this.texture.getTexture()),
+                Screen.scale(snapshot.getX()),
+                Screen.scale(snapshot.getY()),
                 null
         );
-        this.renderBounds(g);
+        this.renderBounds(g, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void capture(final ObjectSnapshot snapshot) {
+        snapshot.setType(this.entity.getType());
     }
 
     /**
      * Render the bounds
      *
-     * @param g graphic context
+     * @param g        graphic context
+     * @param snapshot the entity snapshot
      */
-    public void renderBounds(final Graphics g) {
+    public void renderBounds(final Graphics g, final ObjectSnapshot snapshot) {
         if (DeveloperMode.isActive()) {
             g.setColor(Color.BLACK);
-            g.drawRect(Screen.scale(this.entity.getPos().getX()),
-                    Screen.scale(this.entity.getPos().getY()),
-                    Screen.scale(this.entity.getWidth() - 1),
-                    Screen.scale(this.entity.getHeight() - 1)
+            g.drawRect(Screen.scale(snapshot.getX()),
+                    Screen.scale(snapshot.getY()),
+                    Screen.scale(snapshot.getWidth() - 1),
+                    Screen.scale(snapshot.getHeight() - 1)
             );
         }
     }
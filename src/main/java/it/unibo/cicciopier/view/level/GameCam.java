@@ -1,9 +1,10 @@
 package it.unibo.cicciopier.view.level;
 
-import it.unibo.cicciopier.model.GameObject;
 import it.unibo.cicciopier.model.settings.Screen;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
 
 import java.awt.*;
+import java.awt.geom.Rectangle2D;
 
 /**
  * Represents the game cam.
@@ -13,15 +14,26 @@ public final class GameCam {
     private int viewportHeight;
     private int offsetMax;
     private int offsetMin;
+    private final Rectangle2D.Double viewWindow;
 
     /**
-     * Center the cam on the given {@link GameObject}
+     * Constructor for this class.
+     */
+    public GameCam() {
+        this.viewWindow = new Rectangle2D.Double();
+    }
+
+    /**
+     * Center the cam on the given game object, interpolating its position between the previous
+     * and the current tick
      *
-     * @param object   the game object
-     * @param graphics the graphics object
+     * @param object       the game object snapshot
+     * @param partialTicks the fraction of tick elapsed since the last update
+     * @param graphics     the graphics object
      */
-    public void translate(final GameObject object, final Graphics graphics) {
-        int camX = Screen.scale(object.getBounds().getCenterX()) - this.getViewportWidth() / 2;
+    public void translate(final ObjectSnapshot object, final double partialTicks, final Graphics graphics) {
+        final double x = object.getLastX() + (object.getX() - object.getLastX()) * partialTicks;
+        int camX = Screen.scale(x + object.getWidth() / 2d) - this.getViewportWidth() / 2;
         if (camX > this.getOffsetMax()) {
             camX = this.getOffsetMax();
         }
@@ -30,6 +42,17 @@ public final class GameCam {
         }
         // move view horizontally
         graphics.translate(-camX, 0);
+        this.viewWindow.setRect(camX / Screen.getScale(), 0,
+                this.getViewportWidth() / Screen.getScale(), this.getViewportHeight() / Screen.getScale());
+    }
+
+    /**
+     * Get the part of the world seen by the cam after the last translation, in world coordinates.
+     *
+     * @return the view window
+     */
+    public Rectangle2D getViewWindow() {
+        return this.viewWindow;
     }
 
     /**
@@ -1,19 +1,27 @@
 package it.unibo.cicciopier.view.level;
 
-import it.unibo.cicciopier.controller.Engine;
-import it.unibo.cicciopier.model.entities.Player;
 import it.unibo.cicciopier.model.settings.CustomFont;
 import it.unibo.cicciopier.model.settings.Screen;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.function.Supplier;
 
 public final class HudView extends JPanel {
-    private final Engine engine;
+    private final Supplier<WorldSnapshot> frame;
+    private int score;
+    private String scoreLabel;
+    private int coins;
+    private String coinsLabel;
 
-    public HudView(final Engine engine) {
-        this.engine = engine;
+    public HudView(final Supplier<WorldSnapshot> frame) {
+        this.frame = frame;
+        this.score = -1;
+        this.coins = -1;
     }
 
     /**
@@ -29,60 +37,72 @@ public final class HudView extends JPanel {
     /**
      * Render the game hud: health bar, stamina, score counter, coin counter
      *
-     * @param p player
+     * @param p snapshot of the world
      * @param g graphics
      */
-    private void renderHud(final Player p, final Graphics g) {
+    private void renderHud(final WorldSnapshot p, final Graphics g) {
         //draw health bar decoration
-        g.drawImage(Texture.HEALTH_BAR_DECORATION.getTexture(),
+        g.drawImage(SpriteCache.get(Texture.HEALTH_BAR_DECORATION.getTexture()),
                 Screen.scale(20),
                 Screen.scale(20),
-                Screen.scale(Texture.HEALTH_BAR_DECORATION.getTexture().getWidth()),
-                Screen.scale(Texture.HEALTH_BAR_DECORATION.getTexture().getHeight()),
                 null);
-        final int health = Texture.HEALTH_BAR.getTexture().getWidth() * p.getHp() / p.getMaxHp();
+        final int health = Texture.HEALTH_BAR.getTexture().getWidth() * p.getPlayer().getHp() / p.getPlayer().getMaxHp();
         // 0 or negative width can't be drawn
         if (health > 0) {
             //draw the health bar
-            g.drawImage(Texture.HEALTH_BAR.getTexture().getSubimage(0, 0, health, Texture.HEALTH_BAR.getTexture().getHeight()),
-                    Screen.scale(40),
-                    Screen.scale(20),
-                    Screen.scale(health),
-                    Screen.scale(Texture.HEALTH_BAR.getTexture().getHeight()),
-                    null);
+            this.renderBar(g, Texture.HEALTH_BAR, Screen.scale(40), Screen.scale(20), health);
         }
         //draw stamina bar decoration
-        g.drawImage(Texture.STAMINA_BAR_DECORATION.getTexture(),
+        g.drawImage(SpriteCache.get(Texture.STAMINA_BAR_DECORATION.getTexture()),
                 Screen.scale(20),
                 Screen.scale(50),
-                Screen.scale(Texture.STAMINA_BAR_DECORATION.getTexture().getWidth()),
-                Screen.scale(Texture.STAMINA_BAR_DECORATION.getTexture().getHeight()),
                 null);
         final int stamina = Texture.STAMINA_BAR.getTexture().getWidth() * p.getStamina() / p.getMaxStamina();
         // 0 or negative width can't be drawn
         if (stamina > 0) {
             //draw the stamina bar
-            g.drawImage(Texture.STAMINA_BAR.getTexture().getSubimage(0, 0, stamina, Texture.STAMINA_BAR.getTexture().getHeight()),
-                    Screen.scale(40),
-                    Screen.scale(50),
-                    Screen.scale(stamina),
-                    Screen.scale(Texture.STAMINA_BAR.getTexture().getHeight()),
-                    null);
+            this.renderBar(g, Texture.STAMINA_BAR, Screen.scale(40), Screen.scale(50), stamina);
         }
         //draw score counter
         g.setFont(CustomFont.getInstance().getFontOrDefault());
-        g.drawString("Score: " + p.getScore(), Screen.scale(20), Screen.scale(110));
+        // labels are built again only when the counters change
+        if (this.score != p.getScore()) {
+            this.score = p.getScore();
+            this.scoreLabel = "Score: " + this.score;
+        }
+        g.drawString(this.scoreLabel, Screen.scale(20), Screen.scale(110));
         //draw coin
-        g.drawImage(Texture.COIN.getTexture().getSubimage(0, 0, Texture.COIN.getTexture().getHeight(), Texture.COIN.getTexture().getHeight()),
+        final BufferedImage coin = SpriteCache.get(Texture.COIN.getTexture());
+        g.drawImage(coin,
                 Screen.scale(20),
                 Screen.scale(130),
-                Screen.scale(Texture.COIN.getTexture().getHeight()),
-                Screen.scale(Texture.COIN.getTexture().getHeight()),
+                Screen.scale(20) + coin.getHeight(),
+                Screen.scale(130) + coin.getHeight(),
+                0, 0, coin.getHeight(), coin.getHeight(),
                 null
         );
         //draw coin counter
         g.setFont(CustomFont.getInstance().getFontOrDefault());
-        g.drawString("x" + p.getCoin(), Screen.scale(50), Screen.scale(147));
+        if (this.coins != p.getCoins()) {
+            this.coins = p.getCoins();
+            this.coinsLabel = "x" + this.coins;
+        }
+        g.drawString(this.coinsLabel, Screen.scale(50), Screen.scale(147));
+    }
+
+    /**
+     * Render the left part of a bar, scaled to the screen
+     *
+     * @param g     graphics
+     * @param bar   the bar texture
+     * @param x     the x on the screen
+     * @param y     the y on the screen
+     * @param width the width of the part in the texture
+     */
+    private void renderBar(final Graphics g, final Texture bar, final int x, final int y, final int width) {
+        final BufferedImage scaled = SpriteCache.get(bar.getTexture());
+        final int scaledWidth = Screen.scale(width);
+        g.drawImage(scaled, x, y, x + scaledWidth, y + scaled.getHeight(), 0, 0, scaledWidth, scaled.getHeight(), null);
     }
 
     /**
@@ -91,10 +111,21 @@ public final class HudView extends JPanel {
     @Override
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        final Player p = this.engine.getWorld().getPlayer();
-        // render game hud
-        this.renderHud(p, g);
+        this.draw(g, this.frame.get());
         // dispose
         g.dispose();
     }
+
+    /**
+     * Draw the game hud.
+     *
+     * @param g        graphics
+     * @param snapshot the snapshot of the frame being drawn
+     */
+    public void draw(final Graphics g, final WorldSnapshot snapshot) {
+        // render game hud
+        if (snapshot.isCaptured()) {
+            this.renderHud(snapshot, g);
+        }
+    }
 }
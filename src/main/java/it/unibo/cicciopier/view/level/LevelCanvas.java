@@ -0,0 +1,91 @@
+package it.unibo.cicciopier.view.level;
+
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Custom {@link Canvas} class for active rendering: the render thread draws level and hud
+ * in a single pass on a page flipping {@link BufferStrategy} and shows it, without going
+ * through the swing repaint manager.
+ */
+public final class LevelCanvas extends Canvas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LevelCanvas.class);
+    private static final int BUFFERS = 3;
+    private final LevelView level;
+    private final HudView hud;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param level the level view
+     * @param hud   the hud view
+     */
+    public LevelCanvas(final LevelView level, final HudView hud) {
+        this.level = level;
+        this.hud = hud;
+    }
+
+    /**
+     * Load canvas components.
+     */
+    public void load() {
+        this.setBounds(0, 0, (int) this.getPreferredSize().getWidth(), (int) this.getPreferredSize().getHeight());
+        // everything is drawn by the render thread
+        this.setIgnoreRepaint(true);
+        this.setVisible(false);
+    }
+
+    /**
+     * Draw level and hud and show them, called by the render thread.
+     * Does nothing until the canvas is displayable.
+     *
+     * @param snapshot the snapshot of the frame, the same for level and hud
+     */
+    public void render(final WorldSnapshot snapshot) {
+        if (!this.isDisplayable()) {
+            return;
+        }
+        if (this.getBufferStrategy() == null) {
+            this.createBufferStrategy(BUFFERS);
+            LOGGER.info("Created buffer strategy with {} buffers, page flipping: {}", BUFFERS,
+                    this.getBufferStrategy().getCapabilities().isPageFlipping());
+        }
+        final BufferStrategy strategy = this.getBufferStrategy();
+        do {
+            do {
+                final Graphics g = strategy.getDrawGraphics();
+                try {
+                    this.draw(g, snapshot);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Draw a frame.
+     *
+     * @param g        graphic context
+     * @param snapshot the snapshot of the frame
+     */
+    private void draw(final Graphics g, final WorldSnapshot snapshot) {
+        g.setColor(this.level.getBackground());
+        g.fillRect(0, 0, this.getWidth(), this.getHeight());
+        // the level moves the graphics with the cam
+        final Graphics levelGraphics = g.create();
+        try {
+            this.level.draw(levelGraphics, snapshot);
+        } finally {
+            levelGraphics.dispose();
+        }
+        this.hud.draw(g, snapshot);
+    }
+
+}
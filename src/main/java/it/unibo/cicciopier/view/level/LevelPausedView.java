@@ -6,8 +6,10 @@ import it.unibo.cicciopier.controller.LevelMenuAction;
 import it.unibo.cicciopier.view.Texture;
 import it.unibo.cicciopier.view.menu.buttons.Buttons;
 import it.unibo.cicciopier.view.menu.buttons.LevelMenuButton;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
 
 import java.awt.*;
+import java.util.function.Supplier;
 
 /**
  * Class for rendering a menu when the game is {@link GameState#PAUSED}
@@ -21,9 +23,10 @@ public final class LevelPausedView extends LevelStateView {
      * Constructor for this class.
      *
      * @param engine engine
+     * @param frame  the snapshot of the frame being drawn
      */
-    public LevelPausedView(final Engine engine) {
-        super(engine, GameState.PAUSED);
+    public LevelPausedView(final Engine engine, final Supplier<WorldSnapshot> frame) {
+        super(engine, frame, GameState.PAUSED);
         this.restartButton = new LevelMenuButton(Buttons.RESTART, LevelMenuAction.RESTART, engine);
         this.resumeButton = new LevelMenuButton(Buttons.RESUME, LevelMenuAction.RESUME, engine);
         this.homeButton = new LevelMenuButton(Buttons.HOME, LevelMenuAction.HOME, engine);
@@ -2,19 +2,21 @@ package it.unibo.cicciopier.view.level;
 
 import it.unibo.cicciopier.controller.Engine;
 import it.unibo.cicciopier.controller.GameState;
-import it.unibo.cicciopier.model.entities.Player;
 import it.unibo.cicciopier.view.menu.buttons.LevelMenuButton;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Base class for rendering a panel during a specific {@link GameState}
  */
 public abstract class LevelStateView extends JPanel {
     private final Engine engine;
+    private final Supplier<WorldSnapshot> frame;
     private final GameState state;
     private final Set<LevelMenuButton> buttons;
 
@@ -22,10 +24,12 @@ public abstract class LevelStateView extends JPanel {
      * Constructor for this class.
      *
      * @param engine engine
+     * @param frame  the snapshot of the frame being drawn
      * @param state  game state
      */
-    public LevelStateView(final Engine engine, final GameState state) {
+    public LevelStateView(final Engine engine, final Supplier<WorldSnapshot> frame, final GameState state) {
         this.engine = engine;
+        this.frame = frame;
         this.state = state;
         this.buttons = new HashSet<>();
     }
@@ -65,10 +69,9 @@ public abstract class LevelStateView extends JPanel {
     @Override
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        final Player p = this.engine.getWorld().getPlayer();
         // render state
         if (this.engine.getState() == this.state) {
-            this.renderState(g, p.getScore());
+            this.renderState(g, this.frame.get().getScore());
         }
         // update buttons visibility
         for (final LevelMenuButton button : this.buttons) {
@@ -5,19 +5,31 @@ import it.unibo.cicciopier.model.settings.DeveloperMode;
 import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.entities.Player;
 import it.unibo.cicciopier.model.settings.Screen;
+import it.unibo.cicciopier.view.SpriteCache;
 import it.unibo.cicciopier.view.Texture;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.function.Supplier;
 
 /**
  * Custom {@link JPanel} class for game rendering.
  */
 public final class LevelView extends JPanel {
     private static final Logger LOGGER = LoggerFactory.getLogger(LevelView.class);
+    /**
+     * Space around the view window where entities are still rendered, textures can be bigger than bounds.
+     */
+    private static final int CULLING_MARGIN = 4 * Block.SIZE;
     private final Engine engine;
+    private final Supplier<WorldSnapshot> frame;
+    private final TerrainCache terrain;
     private final GameCam cam;
     private Texture background;
 
@@ -25,9 +37,12 @@ public final class LevelView extends JPanel {
      * Constructor for this class.
      *
      * @param engine the instance of the engine
+     * @param frame  the snapshot of the frame being drawn, when painted by swing
      */
-    public LevelView(final Engine engine) {
+    public LevelView(final Engine engine, final Supplier<WorldSnapshot> frame) {
         this.engine = engine;
+        this.frame = frame;
+        this.terrain = new TerrainCache(engine.getWorld());
         this.cam = new GameCam();
         this.background = null;
     }
@@ -62,57 +77,140 @@ public final class LevelView extends JPanel {
         }
     }
 
+    /**
+     * Update the animations of entities and player, called once per tick.
+     */
+    public void update() {
+        this.engine.getWorld().forEachEntity(e -> {
+            if (e.getView() != null) {
+                e.getView().update();
+            }
+        });
+        final Player p = this.engine.getWorld().getPlayer();
+        if (p.getView() != null) {
+            p.getView().update();
+        }
+    }
+
+    /**
+     * Render a game object at its position interpolated between the previous and the current tick.
+     * The view draws the object at the current position, so the graphics are moved back by the
+     * distance not travelled yet.
+     *
+     * @param o            the game object snapshot
+     * @param g            graphic context
+     * @param partialTicks the fraction of tick elapsed since the last update
+     */
+    private void renderInterpolated(final ObjectSnapshot o, final Graphics g, final double partialTicks) {
+        final Graphics2D g2d = (Graphics2D) g;
+        final double dx = Screen.getScale() * (o.getLastX() - o.getX()) * (1 - partialTicks);
+        final double dy = Screen.getScale() * (o.getLastY() - o.getY()) * (1 - partialTicks);
+        g2d.translate(dx, dy);
+        o.getView().render(g, o);
+        g2d.translate(-dx, -dy);
+    }
+
+    /**
+     * Check if a game object can be seen inside the view window, plus a margin.
+     *
+     * @param o      the game object snapshot
+     * @param window the view window
+     * @return true if the object could be visible
+     */
+    private boolean isVisible(final ObjectSnapshot o, final Rectangle2D window) {
+        final double minX = window.getMinX() - CULLING_MARGIN;
+        final double maxX = window.getMaxX() + CULLING_MARGIN;
+        final double minY = window.getMinY() - CULLING_MARGIN;
+        final double maxY = window.getMaxY() + CULLING_MARGIN;
+        if (o.getX() + o.getWidth() >= minX && o.getX() <= maxX && o.getY() + o.getHeight() >= minY && o.getY() <= maxY) {
+            return true;
+        }
+        // lines can cross the view even if the object is far away
+        return o.hasLine()
+                && Math.max(o.getLineStartX(), o.getLineEndX()) >= minX
+                && Math.min(o.getLineStartX(), o.getLineEndX()) <= maxX;
+    }
+
+    /**
+     * Render the bounds of a game object without view - developing purposes.
+     *
+     * @param o     the game object snapshot
+     * @param g     graphic context
+     * @param color the bounds color
+     */
+    private void renderBounds(final ObjectSnapshot o, final Graphics g, final Color color) {
+        g.setColor(color);
+        g.drawRect(
+                Screen.scale(o.getX()),
+                Screen.scale(o.getY()),
+                Screen.scale(o.getWidth() - 1),
+                Screen.scale(o.getHeight() - 1)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        final Player p = this.engine.getWorld().getPlayer();
-        this.cam.translate(p, g);
-        // render background if exists
+        this.draw(g, this.frame.get());
+        // dispose
+        g.dispose();
+    }
+
+    /**
+     * Draw the level: background, entities, blocks and player.
+     * The graphics are translated by the cam, so a copy should be given if it's used after.
+     *
+     * @param g        graphic context
+     * @param snapshot the snapshot of the frame being drawn
+     */
+    public void draw(final Graphics g, final WorldSnapshot snapshot) {
+        if (!snapshot.isCaptured()) {
+            return;
+        }
+        final ObjectSnapshot p = snapshot.getPlayer();
+        final double partialTicks = this.engine.getPartialTicks();
+        this.cam.translate(p, partialTicks, g);
+        final Rectangle2D window = this.cam.getViewWindow();
+        // render background if exists, only the visible copies
         if (this.background != null) {
+            final int h = (int) this.getPreferredSize().getHeight();
             final int w = (int) (this.background.getTexture().getWidth() * this.getPreferredSize().getHeight() / this.background.getTexture().getHeight());
-            for (int x = 0; x < Screen.scale(this.engine.getWorld().getWidth() * Block.SIZE); x += w) {
-                g.drawImage(this.background.getTexture(), x, 0, w, (int) this.getPreferredSize().getHeight(), null);
+            // scaled once to the height of the view, then drawn 1:1
+            final BufferedImage scaled = SpriteCache.getResized(this.background.getTexture(), w, h);
+            final int left = (int) (window.getMinX() * Screen.getScale());
+            final int right = Math.min(Screen.scale(this.engine.getWorld().getWidth() * Block.SIZE),
+                    (int) Math.ceil(window.getMaxX() * Screen.getScale()));
+            for (int x = left - left % w; x < right; x += w) {
+                g.drawImage(scaled, x, 0, null);
             }
         }
         // render entities
-        this.engine.getWorld().getEntities().stream()
-                .filter(e -> e.getView() != null)
-                .forEach(e -> e.getView().render(g));
-        // render even if the view is null - developing purposes
-        if (DeveloperMode.isActive()) {
-            this.engine.getWorld().getEntities().stream()
-                    .filter(e -> e.getView() == null)
-                    .forEach(e -> {
-                        g.setColor(Color.RED);
-                        g.drawRect(
-                                Screen.scale(e.getPos().getX()),
-                                Screen.scale(e.getPos().getY()),
-                                Screen.scale(e.getWidth() - 1),
-                                Screen.scale(e.getHeight() - 1)
-                        );
-                    });
+        for (int i = 0; i < snapshot.getEntitiesCount(); i++) {
+            final ObjectSnapshot e = snapshot.getEntity(i);
+            if (!this.isVisible(e, window)) {
+                continue;
+            }
+            if (e.getView() != null) {
+                this.renderInterpolated(e, g, partialTicks);
+            }
+            // render even if the view is null - developing purposes
+            else if (DeveloperMode.isActive()) {
+                this.renderBounds(e, g, Color.RED);
+            }
         }
-        // render blocks
-        this.engine.getWorld().forEach(b -> b.getView().render(g));
+        // render visible blocks, they never move so they're baked in the terrain cache
+        this.terrain.draw(g, window);
         // render player
         if (p.getView() != null) {
-            p.getView().render(g);
+            this.renderInterpolated(p, g, partialTicks);
         }
         // render even if the view is null - developing purposes
         else if (DeveloperMode.isActive()) {
-            g.setColor(Color.BLACK);
-            g.drawRect(
-                    Screen.scale(p.getPos().getX()),
-                    Screen.scale(p.getPos().getY()),
-                    Screen.scale(p.getWidth() - 1),
-                    Screen.scale(p.getHeight() - 1)
-            );
+            this.renderBounds(p, g, Color.BLACK);
         }
-        // dispose
-        g.dispose();
     }
 
 }
@@ -8,8 +8,10 @@ import it.unibo.cicciopier.model.settings.Screen;
 import it.unibo.cicciopier.view.Texture;
 import it.unibo.cicciopier.view.menu.buttons.Buttons;
 import it.unibo.cicciopier.view.menu.buttons.LevelMenuButton;
+import it.unibo.cicciopier.view.snapshot.WorldSnapshot;
 
 import java.awt.*;
+import java.util.function.Supplier;
 
 /**
  * Class for rendering a menu when the game is {@link GameState#WON}
@@ -21,9 +23,10 @@ public final class LevelWonView extends LevelStateView {
      * Constructor for this class.
      *
      * @param engine engine
+     * @param frame  the snapshot of the frame being drawn
      */
-    public LevelWonView(final Engine engine) {
-        super(engine, GameState.WON);
+    public LevelWonView(final Engine engine, final Supplier<WorldSnapshot> frame) {
+        super(engine, frame, GameState.WON);
         this.homeButton = new LevelMenuButton(Buttons.HOME, LevelMenuAction.HOME, engine);
     }
 
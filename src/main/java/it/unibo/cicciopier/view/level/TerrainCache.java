@@ -0,0 +1,198 @@
+package it.unibo.cicciopier.view.level;
+
+import it.unibo.cicciopier.model.TileGrid;
+import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.settings.Screen;
+import it.unibo.cicciopier.view.snapshot.ObjectSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Cache of the {@link World} blocks, baked at the current screen scale into images of
+ * {@link #CHUNK_WIDTH} columns, so a frame only draws the few chunks in view instead of every block.
+ * Chunks are accelerated {@link VolatileImage}s when drawing on screen, {@link BufferedImage}s otherwise.
+ * They're baked again when the scale changes or when the revision of their chunk in the world changes,
+ * and released when far from the view.
+ */
+public final class TerrainCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TerrainCache.class);
+    /**
+     * Width of a chunk in blocks.
+     */
+    public static final int CHUNK_WIDTH = TileGrid.CHUNK_WIDTH;
+    private final World world;
+    private final ObjectSnapshot blockSnapshot;
+    private Image[] chunks;
+    private boolean[] baked;
+    private int[] revisions;
+    private double scale;
+    private int revision;
+
+    /**
+     * Constructor for this class.
+     *
+     * @param world the world whose blocks are cached
+     */
+    public TerrainCache(final World world) {
+        this.world = world;
+        this.blockSnapshot = new ObjectSnapshot();
+        this.chunks = new Image[0];
+        this.baked = new boolean[0];
+        this.revisions = new int[0];
+    }
+
+    /**
+     * Draw the chunks intersecting the view window.
+     *
+     * @param g      graphic context, translated by the cam
+     * @param window the view window, in world coordinates
+     */
+    public void draw(final Graphics g, final Rectangle2D window) {
+        this.validate();
+        final int chunkSize = CHUNK_WIDTH * Block.SIZE;
+        final int first = Math.max(0, (int) Math.floor(window.getMinX() / chunkSize));
+        final int last = Math.min(this.chunks.length - 1, (int) Math.floor(window.getMaxX() / chunkSize));
+        // keep the neighbours, they're the next ones to be seen
+        for (int i = 0; i < this.chunks.length; i++) {
+            if (i < first - 1 || i > last + 1) {
+                this.release(i);
+            }
+        }
+        final GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        for (int i = first; i <= last; i++) {
+            this.drawChunk(g, gc, i);
+        }
+    }
+
+    /**
+     * Release every chunk when the scale changed or the world has been reset.
+     */
+    private void validate() {
+        final int chunksCount = (this.world.getWidth() + CHUNK_WIDTH - 1) / CHUNK_WIDTH;
+        if (this.scale == Screen.getScale()
+                && this.revision == this.world.getBlocksRevision()
+                && this.chunks.length == chunksCount) {
+            return;
+        }
+        LOGGER.debug("Terrain changed, baking {} chunks again", chunksCount);
+        for (int i = 0; i < this.chunks.length; i++) {
+            this.release(i);
+        }
+        this.chunks = new Image[chunksCount];
+        this.baked = new boolean[chunksCount];
+        this.revisions = new int[chunksCount];
+        this.scale = Screen.getScale();
+        this.revision = this.world.getBlocksRevision();
+    }
+
+    /**
+     * Draw a chunk, creating and baking it if needed.
+     *
+     * @param g     graphic context
+     * @param gc    the configuration of the graphics
+     * @param index the chunk index
+     */
+    private void drawChunk(final Graphics g, final GraphicsConfiguration gc, final int index) {
+        if (this.chunks[index] instanceof VolatileImage) {
+            final int status = ((VolatileImage) this.chunks[index]).validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                this.release(index);
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                this.baked[index] = false;
+            }
+        }
+        if (this.revisions[index] != this.world.getChunkRevision(index)) {
+            this.baked[index] = false;
+        }
+        if (this.chunks[index] == null) {
+            this.chunks[index] = this.createChunk(gc, index);
+        }
+        if (!this.baked[index]) {
+            this.bake(index);
+        }
+        g.drawImage(this.chunks[index], this.getChunkX(index), 0, null);
+        // the content can be lost while drawing, it will be baked on the next frame
+        if (this.chunks[index] instanceof VolatileImage && ((VolatileImage) this.chunks[index]).contentsLost()) {
+            this.baked[index] = false;
+        }
+    }
+
+    /**
+     * Create the image of a chunk, accelerated if the graphics draw on screen.
+     *
+     * @param gc    the configuration of the graphics
+     * @param index the chunk index
+     * @return the image
+     */
+    private Image createChunk(final GraphicsConfiguration gc, final int index) {
+        final int lastColumn = Math.min(this.world.getWidth(), (index + 1) * CHUNK_WIDTH);
+        final int width = Screen.scale(lastColumn * Block.SIZE) - this.getChunkX(index);
+        final int height = Screen.scale(this.world.getHeight() * Block.SIZE);
+        if (gc != null && gc.getDevice().getType() == GraphicsDevice.TYPE_RASTER_SCREEN) {
+            try {
+                return gc.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+            } catch (Exception e) {
+                LOGGER.warn("Can't create an accelerated chunk, using a buffered one", e);
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Draw the blocks of a chunk in its image.
+     *
+     * @param index the chunk index
+     */
+    private void bake(final int index) {
+        // read before the blocks, a chunk changed while baking is baked again on the next frame
+        this.revisions[index] = this.world.getChunkRevision(index);
+        final Graphics2D g = (Graphics2D) this.chunks[index].getGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, this.chunks[index].getWidth(null), this.chunks[index].getHeight(null));
+        g.setComposite(AlphaComposite.SrcOver);
+        // blocks are drawn at the world position of their tile, like without the cache
+        g.translate(-this.getChunkX(index), 0);
+        final int lastColumn = Math.min(this.world.getWidth(), (index + 1) * CHUNK_WIDTH);
+        for (int y = 0; y < this.world.getHeight(); y++) {
+            for (int x = index * CHUNK_WIDTH; x < lastColumn; x++) {
+                final Block b = this.world.getBlock(x, y);
+                if (b != null && b.getView() != null) {
+                    this.blockSnapshot.capture(b, x * Block.SIZE, y * Block.SIZE);
+                    b.getView().render(g, this.blockSnapshot);
+                }
+            }
+        }
+        g.dispose();
+        this.baked[index] = true;
+    }
+
+    /**
+     * Release the image of a chunk.
+     *
+     * @param index the chunk index
+     */
+    private void release(final int index) {
+        if (this.chunks[index] != null) {
+            this.chunks[index].flush();
+            this.chunks[index] = null;
+        }
+        this.baked[index] = false;
+    }
+
+    /**
+     * Get the x of a chunk on the screen, rounded the same way as the blocks.
+     *
+     * @param index the chunk index
+     * @return the x in pixels
+     */
+    private int getChunkX(final int index) {
+        return Screen.scale(index * CHUNK_WIDTH * Block.SIZE);
+    }
+
+}
@@ -36,10 +36,12 @@ public class CustomAnimationView extends JComponent {
     @Override
     protected void paintComponent(final Graphics g) {
         if (this.facing) {
-            g.drawImage(this.animationPlayer.getSprite(this.frames / this.animationPlayer.getSpeed()),
-                    (int) (this.getPreferredSize().getWidth() / 38.4 + this.x + Screen.scale(this.animationPlayer.getWidth())),
+            // mirrored frame, it ends where the not mirrored one would start
+            g.drawImage(this.animationPlayer.getSprite(this.frames / this.animationPlayer.getSpeed(), false),
+                    (int) (this.getPreferredSize().getWidth() / 38.4 + this.x + Screen.scale(this.animationPlayer.getWidth()))
+                            - Screen.scale((this.animationPlayer.getWidth() * 1.25)),
                     this.getPreferredSize().height - Screen.scale((this.animationPlayer.getHeight() * 1.25)),
-                    -Screen.scale((this.animationPlayer.getWidth() * 1.25)),
+                    Screen.scale((this.animationPlayer.getWidth() * 1.25)),
                     Screen.scale((this.animationPlayer.getHeight() * 1.25)),
                     null);
         } else {
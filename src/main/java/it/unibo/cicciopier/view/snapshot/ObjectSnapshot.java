@@ -0,0 +1,370 @@
+package it.unibo.cicciopier.view.snapshot;
+
+import it.unibo.cicciopier.model.GameObject;
+import it.unibo.cicciopier.model.entities.EntityState;
+import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.view.Animation;
+import it.unibo.cicciopier.view.GameObjectView;
+
+/**
+ * State of a {@link GameObject} at the end of a tick, everything its view needs to render it.
+ * Written by the game thread and read by the render thread, instances are reused between ticks.
+ */
+public final class ObjectSnapshot {
+    private GameObjectView view;
+    private EntityType type;
+    private double x;
+    private double y;
+    private double lastX;
+    private double lastY;
+    private int width;
+    private int height;
+    private boolean removed;
+    private EntityState state;
+    private boolean facingRight;
+    private Animation animation;
+    private int frame;
+    private int overlayFrame;
+    private double angle;
+    private int hp;
+    private int maxHp;
+    private double lineStartX;
+    private double lineStartY;
+    private double lineEndX;
+    private double lineEndY;
+    private boolean line;
+
+    /**
+     * Copy the state of the given game object, then let its view add what else it needs.
+     *
+     * @param object the game object
+     */
+    public void capture(final GameObject object) {
+        this.view = object.getView();
+        this.type = null;
+        this.x = object.getPos().getDoubleX();
+        this.y = object.getPos().getDoubleY();
+        this.lastX = object.getLastPos().getDoubleX();
+        this.lastY = object.getLastPos().getDoubleY();
+        this.width = object.getWidth();
+        this.height = object.getHeight();
+        this.removed = false;
+        this.state = null;
+        this.facingRight = true;
+        this.animation = null;
+        this.frame = 0;
+        this.overlayFrame = -1;
+        this.angle = 0;
+        this.line = false;
+        if (this.view != null) {
+            this.view.capture(this);
+        }
+    }
+
+    /**
+     * Copy the state of the given game object, placing it at a fixed position.
+     * Used for the blocks shared between the tiles, whose position is the tile one.
+     *
+     * @param object the game object
+     * @param x      the x position
+     * @param y      the y position
+     */
+    public void capture(final GameObject object, final double x, final double y) {
+        this.capture(object);
+        this.x = x;
+        this.y = y;
+        this.lastX = x;
+        this.lastY = y;
+    }
+
+    /**
+     * Get the view of the game object.
+     *
+     * @return the view, null if the object has no view
+     */
+    public GameObjectView getView() {
+        return this.view;
+    }
+
+    /**
+     * Get the type of the entity.
+     *
+     * @return the type, null if the object is not an entity
+     */
+    public EntityType getType() {
+        return this.type;
+    }
+
+    /**
+     * Set the type of the entity.
+     *
+     * @param type the type
+     */
+    public void setType(final EntityType type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the x position.
+     *
+     * @return the x position
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Get the y position.
+     *
+     * @return the y position
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Get the x position at the previous tick.
+     *
+     * @return the previous x position
+     */
+    public double getLastX() {
+        return this.lastX;
+    }
+
+    /**
+     * Get the y position at the previous tick.
+     *
+     * @return the previous y position
+     */
+    public double getLastY() {
+        return this.lastY;
+    }
+
+    /**
+     * Get the width of the object.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the object.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Check if the entity has been removed during the tick.
+     *
+     * @return true if removed
+     */
+    public boolean isRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Set if the entity has been removed during the tick.
+     *
+     * @param removed true if removed
+     */
+    public void setRemoved(final boolean removed) {
+        this.removed = removed;
+    }
+
+    /**
+     * Get the state of the entity.
+     *
+     * @return the state, null if the entity has no state
+     */
+    public EntityState getState() {
+        return this.state;
+    }
+
+    /**
+     * Set the state of the entity.
+     *
+     * @param state the state
+     */
+    public void setState(final EntityState state) {
+        this.state = state;
+    }
+
+    /**
+     * Check if the entity is facing right.
+     *
+     * @return true if facing right
+     */
+    public boolean isFacingRight() {
+        return this.facingRight;
+    }
+
+    /**
+     * Set if the entity is facing right.
+     *
+     * @param facingRight true if facing right
+     */
+    public void setFacingRight(final boolean facingRight) {
+        this.facingRight = facingRight;
+    }
+
+    /**
+     * Get the current animation.
+     *
+     * @return the animation, null if the object is not animated
+     */
+    public Animation getAnimation() {
+        return this.animation;
+    }
+
+    /**
+     * Get the frame of the current animation.
+     *
+     * @return the frame
+     */
+    public int getFrame() {
+        return this.frame;
+    }
+
+    /**
+     * Set the current animation and its frame.
+     *
+     * @param animation the animation
+     * @param frame     the frame
+     */
+    public void setAnimation(final Animation animation, final int frame) {
+        this.animation = animation;
+        this.frame = frame;
+    }
+
+    /**
+     * Get the frame of the animation drawn over the object, like the player blood.
+     *
+     * @return the frame, -1 if there is nothing to draw
+     */
+    public int getOverlayFrame() {
+        return this.overlayFrame;
+    }
+
+    /**
+     * Set the frame of the animation drawn over the object.
+     *
+     * @param overlayFrame the frame, -1 if there is nothing to draw
+     */
+    public void setOverlayFrame(final int overlayFrame) {
+        this.overlayFrame = overlayFrame;
+    }
+
+    /**
+     * Get the rotation of the object in radians.
+     *
+     * @return the angle
+     */
+    public double getAngle() {
+        return this.angle;
+    }
+
+    /**
+     * Set the rotation of the object in radians.
+     *
+     * @param angle the angle
+     */
+    public void setAngle(final double angle) {
+        this.angle = angle;
+    }
+
+    /**
+     * Get the health points.
+     *
+     * @return the health points
+     */
+    public int getHp() {
+        return this.hp;
+    }
+
+    /**
+     * Get the max health points.
+     *
+     * @return the max health points
+     */
+    public int getMaxHp() {
+        return this.maxHp;
+    }
+
+    /**
+     * Set the health points.
+     *
+     * @param hp    the health points
+     * @param maxHp the max health points
+     */
+    public void setHp(final int hp, final int maxHp) {
+        this.hp = hp;
+        this.maxHp = maxHp;
+    }
+
+    /**
+     * Check if the object draws a line.
+     *
+     * @return true if there is a line
+     */
+    public boolean hasLine() {
+        return this.line;
+    }
+
+    /**
+     * Get the x of the line start point.
+     *
+     * @return the x of the start point
+     */
+    public double getLineStartX() {
+        return this.lineStartX;
+    }
+
+    /**
+     * Get the y of the line start point.
+     *
+     * @return the y of the start point
+     */
+    public double getLineStartY() {
+        return this.lineStartY;
+    }
+
+    /**
+     * Get the x of the line end point.
+     *
+     * @return the x of the end point
+     */
+    public double getLineEndX() {
+        return this.lineEndX;
+    }
+
+    /**
+     * Get the y of the line end point.
+     *
+     * @return the y of the end point
+     */
+    public double getLineEndY() {
+        return this.lineEndY;
+    }
+
+    /**
+     * Set the line drawn by the object, like the laser beam.
+     *
+     * @param startX the x of the start point
+     * @param startY the y of the start point
+     * @param endX   the x of the end point
+     * @param endY   the y of the end point
+     */
+    public void setLine(final double startX, final double startY, final double endX, final double endY) {
+        this.lineStartX = startX;
+        this.lineStartY = startY;
+        this.lineEndX = endX;
+        this.lineEndY = endY;
+        this.line = true;
+    }
+
+}
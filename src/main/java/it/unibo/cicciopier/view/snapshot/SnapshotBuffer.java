@@ -0,0 +1,57 @@
+package it.unibo.cicciopier.view.snapshot;
+
+import it.unibo.cicciopier.model.World;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands the {@link WorldSnapshot}s over from the game thread to the render thread.
+ * The game thread writes the back buffer and the render thread reads the front one, a third
+ * snapshot is kept ready in between, so neither thread ever waits for the other or reads
+ * a snapshot while it's being written.
+ */
+public final class SnapshotBuffer {
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+    private final WorldSnapshot[] snapshots;
+    /**
+     * Index of the ready snapshot, with the {@link #FRESH} bit set if it hasn't been read yet.
+     */
+    private final AtomicInteger ready;
+    private int back;
+    private int front;
+
+    /**
+     * Constructor for this class.
+     */
+    public SnapshotBuffer() {
+        this.snapshots = new WorldSnapshot[]{new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+        this.front = 0;
+        this.ready = new AtomicInteger(1);
+        this.back = 2;
+    }
+
+    /**
+     * Capture the world in the back buffer and publish it, called by the game thread.
+     *
+     * @param world the world
+     */
+    public void publish(final World world) {
+        this.snapshots[this.back].capture(world);
+        this.back = this.ready.getAndSet(this.back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Get the latest published snapshot, called by the render thread.
+     * The snapshot stays valid until the next call.
+     *
+     * @return the latest snapshot
+     */
+    public WorldSnapshot getLatest() {
+        if ((this.ready.get() & FRESH) != 0) {
+            this.front = this.ready.getAndSet(this.front) & INDEX_MASK;
+        }
+        return this.snapshots[this.front];
+    }
+
+}
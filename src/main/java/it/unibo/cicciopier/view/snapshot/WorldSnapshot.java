@@ -0,0 +1,143 @@
+package it.unibo.cicciopier.view.snapshot;
+
+import it.unibo.cicciopier.model.World;
+import it.unibo.cicciopier.model.entities.Player;
+
+import java.util.Arrays;
+
+/**
+ * State of the {@link World} at the end of a tick, read by the views instead of the world.
+ * Entity snapshots are kept in an array that only grows, so capturing a tick doesn't allocate.
+ */
+public final class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 64;
+    private ObjectSnapshot[] entities;
+    private int size;
+    private final ObjectSnapshot player;
+    private int stamina;
+    private int maxStamina;
+    private int score;
+    private int coins;
+    private boolean captured;
+
+    /**
+     * Constructor for this class.
+     */
+    public WorldSnapshot() {
+        this.entities = new ObjectSnapshot[0];
+        this.size = 0;
+        this.player = new ObjectSnapshot();
+        this.captured = false;
+        this.grow(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Ensure the snapshot can hold at least the given number of entities.
+     *
+     * @param capacity the capacity
+     */
+    private void grow(final int capacity) {
+        final int oldCapacity = this.entities.length;
+        this.entities = Arrays.copyOf(this.entities, capacity);
+        for (int i = oldCapacity; i < capacity; i++) {
+            this.entities[i] = new ObjectSnapshot();
+        }
+    }
+
+    /**
+     * Copy the state of the world, called by the game thread at the end of a tick.
+     *
+     * @param world the world
+     */
+    public void capture(final World world) {
+        this.size = 0;
+        world.forEachEntity(e -> {
+            if (this.size == this.entities.length) {
+                this.grow(this.entities.length * 2);
+            }
+            this.entities[this.size++].capture(e);
+        });
+        final Player p = world.getPlayer();
+        this.player.capture(p);
+        this.player.setHp(p.getHp(), p.getMaxHp());
+        this.stamina = p.getStamina();
+        this.maxStamina = p.getMaxStamina();
+        this.score = p.getScore();
+        this.coins = p.getCoin();
+        this.captured = true;
+    }
+
+    /**
+     * Check if the world has been captured at least once.
+     *
+     * @return true if captured
+     */
+    public boolean isCaptured() {
+        return this.captured;
+    }
+
+    /**
+     * Get the number of entities.
+     *
+     * @return the number of entities
+     */
+    public int getEntitiesCount() {
+        return this.size;
+    }
+
+    /**
+     * Get the snapshot of an entity.
+     *
+     * @param index the index, lower than {@link #getEntitiesCount()}
+     * @return the entity snapshot
+     */
+    public ObjectSnapshot getEntity(final int index) {
+        return this.entities[index];
+    }
+
+    /**
+     * Get the snapshot of the player.
+     *
+     * @return the player snapshot
+     */
+    public ObjectSnapshot getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Get the player stamina.
+     *
+     * @return the stamina
+     */
+    public int getStamina() {
+        return this.stamina;
+    }
+
+    /**
+     * Get the player max stamina.
+     *
+     * @return the max stamina
+     */
+    public int getMaxStamina() {
+        return this.maxStamina;
+    }
+
+    /**
+     * Get the player score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Get the player coins.
+     *
+     * @return the coins
+     */
+    public int getCoins() {
+        return this.coins;
+    }
+
+}
@@ -33,9 +33,11 @@ public class BoostTest {
         }
         Boost speedBoost = (Boost) e.get();
         speedBoost.setPos(new Vector2d(10,32));
+        this.world.addEntity(speedBoost);
         int ticks = 0;
         this.world.getPlayer().tick(ticks);
         speedBoost.tick(ticks);
+        this.world.checkCollisions(ticks);
         assertSame(2, this.world.getPlayer().getSpeedModifier());
     }
     @Test
@@ -47,9 +49,11 @@ public class BoostTest {
         }
         Boost speedBoost = (Boost) e.get();
         speedBoost.setPos(new Vector2d(10,32));
+        this.world.addEntity(speedBoost);
         int ticks = 0;
         this.world.getPlayer().tick(ticks);
         speedBoost.tick(ticks);
+        this.world.checkCollisions(ticks);
         assertTrue(this.world.getPlayer().isInvulnerable());
     }
     @Test
@@ -61,9 +65,11 @@ public class BoostTest {
         }
         Boost speedBoost = (Boost) e.get();
         speedBoost.setPos(new Vector2d(10,32));
+        this.world.addEntity(speedBoost);
         int ticks = 0;
         this.world.getPlayer().tick(ticks);
         speedBoost.tick(ticks);
+        this.world.checkCollisions(ticks);
         assertSame(3, this.world.getPlayer().getJumpModifier());
     }
 }
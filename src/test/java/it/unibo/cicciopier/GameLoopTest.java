@@ -0,0 +1,53 @@
+package it.unibo.cicciopier;
+
+import it.unibo.cicciopier.controller.GameLoop;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLoopTest {
+
+    @Test
+    @DisplayName("Time scale clamping test")
+    public void testTimeScale() {
+        // the loop isn't started, the engine is never used
+        final GameLoop loop = new GameLoop(null);
+        assertEquals(1d, loop.getTimeScale(), "Time scale doesn't start at normal speed!");
+        loop.setTimeScale(2);
+        assertEquals(2d, loop.getTimeScale(), "Time scale not set!");
+        // out of range values are clamped
+        loop.setTimeScale(GameLoop.MAX_TIME_SCALE * 2);
+        assertEquals(GameLoop.MAX_TIME_SCALE, loop.getTimeScale(), "Time scale not clamped to the max!");
+        loop.setTimeScale(GameLoop.MIN_TIME_SCALE / 2);
+        assertEquals(GameLoop.MIN_TIME_SCALE, loop.getTimeScale(), "Time scale not clamped to the min!");
+        loop.setTimeScale(0);
+        assertEquals(GameLoop.MIN_TIME_SCALE, loop.getTimeScale(), "Time scale not clamped to the min!");
+        loop.setTimeScale(-1);
+        assertEquals(GameLoop.MIN_TIME_SCALE, loop.getTimeScale(), "Time scale not clamped to the min!");
+        // uncapped is kept as it is
+        loop.setTimeScale(GameLoop.UNCAPPED);
+        assertEquals(GameLoop.UNCAPPED, loop.getTimeScale(), "Uncapped time scale not set!");
+        // invalid values are rejected and the time scale doesn't change
+        assertThrows(IllegalArgumentException.class, () -> loop.setTimeScale(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> loop.setTimeScale(Double.NEGATIVE_INFINITY));
+        assertEquals(GameLoop.UNCAPPED, loop.getTimeScale(), "Invalid time scale changed it!");
+    }
+
+    @Test
+    @DisplayName("Time scale interpolation test")
+    public void testPartialTicks() throws InterruptedException {
+        final GameLoop loop = new GameLoop(null);
+        // at the min speed a tick lasts 8 normal ticks, far from being over
+        loop.setTimeScale(GameLoop.MIN_TIME_SCALE);
+        final double slow = loop.getPartialTicks();
+        assertTrue(slow >= 0 && slow < 1, "Partial ticks not scaled!");
+        // after a normal tick the max speed one is over, clamped to 1
+        Thread.sleep(GameLoop.TICK_NANOS / 1_000_000 + 1);
+        loop.setTimeScale(GameLoop.MAX_TIME_SCALE);
+        assertEquals(1d, loop.getPartialTicks(), "Partial ticks not clamped!");
+        // uncapped ticks are never interpolated
+        loop.setTimeScale(GameLoop.UNCAPPED);
+        assertEquals(1d, loop.getPartialTicks(), "Uncapped partial ticks not 1!");
+    }
+}
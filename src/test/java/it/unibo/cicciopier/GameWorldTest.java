@@ -1,18 +1,32 @@
 package it.unibo.cicciopier;
 
+import it.unibo.cicciopier.model.BodyStore;
+import it.unibo.cicciopier.model.EntityStore;
 import it.unibo.cicciopier.model.GameWorld;
+import it.unibo.cicciopier.model.TileGrid;
 import it.unibo.cicciopier.model.World;
 import it.unibo.cicciopier.model.blocks.base.Block;
 import it.unibo.cicciopier.model.blocks.base.BlockType;
 import it.unibo.cicciopier.model.entities.base.Entity;
 import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.model.entities.base.SimpleLivingEntity;
+import it.unibo.cicciopier.model.entities.base.TileSweep;
+import it.unibo.cicciopier.model.events.GameEvent;
 import it.unibo.cicciopier.utility.Vector2d;
+import it.unibo.cicciopier.view.GameObjectView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +65,91 @@ public class GameWorldTest {
         assertFalse(this.world.getEntities().contains(e.get()), "Entity remove not working!");
     }
 
+    @Test
+    @DisplayName("Entities queries test")
+    public void testEntitiesQueries() {
+        final Optional<Entity> nut = this.world.getEntityFactory().createEntity(EntityType.NUT);
+        final Optional<Entity> pea = this.world.getEntityFactory().createEntity(EntityType.PEA);
+        if (nut.isEmpty() || pea.isEmpty()) {
+            fail("Cannot create entity!");
+        }
+        nut.get().setPos(new Vector2d(100, 100));
+        pea.get().setPos(new Vector2d(1000, 100));
+        this.world.addEntity(nut.get());
+        this.world.addEntity(pea.get());
+        // Test area
+        assertEquals(1, this.world.getEntitiesInArea(new Rectangle(0, 0, 200, 200)).size(), "Entity inArea not working!");
+        assertEquals(2, this.world.getEntitiesInArea(new Rectangle(0, 0, 2000, 200)).size(), "Entity inArea not working!");
+        assertEquals(0, this.world.getEntitiesInArea(new Rectangle(0, 500, 2000, 200)).size(), "Entity inArea not working!");
+        // Test radius
+        assertEquals(1, this.world.getEntitiesInRadius(new Vector2d(135, 110), 10).size(), "Entity inRadius not working!");
+        assertEquals(0, this.world.getEntitiesInRadius(new Vector2d(200, 200), 50).size(), "Entity inRadius not working!");
+        // Test nearest
+        assertEquals(nut, this.world.getNearestEntity(new Vector2d(500, 100), 1000, EntityType.NUT), "Entity nearest not working!");
+        assertTrue(this.world.getNearestEntity(new Vector2d(500, 100), 100, EntityType.NUT).isEmpty(), "Entity nearest not working!");
+        // Test move in place, the world is notified by the engine
+        pea.get().getPos().set(100, 1000);
+        this.world.updateEntity(pea.get());
+        assertEquals(1, this.world.getEntitiesInArea(new Rectangle(0, 0, 2000, 200)).size(), "Entity update not working!");
+        assertEquals(pea, this.world.getNearestEntity(new Vector2d(100, 1000), 100, EntityType.PEA), "Entity update not working!");
+        // Test remove
+        this.world.removeEntity(nut.get());
+        assertTrue(this.world.getEntitiesInRadius(new Vector2d(135, 110), 10).isEmpty(), "Entity remove not working!");
+    }
+
+    @Test
+    @DisplayName("Entities update test")
+    public void testEntitiesUpdate() {
+        final Optional<Entity> nut = this.world.getEntityFactory().createEntity(EntityType.NUT);
+        final Optional<Entity> pea = this.world.getEntityFactory().createEntity(EntityType.PEA);
+        if (nut.isEmpty() || pea.isEmpty()) {
+            fail("Cannot create entity!");
+        }
+        final List<Entity> removed = new ArrayList<>();
+        this.world.getEventBus().register(GameEvent.ENTITY_REMOVED, (entity, value) -> removed.add(entity));
+        this.world.addEntity(nut.get());
+        // Test queued changes
+        this.world.beginUpdate();
+        this.world.addEntity(pea.get());
+        nut.get().remove();
+        assertEquals(List.of(nut.get()), this.world.getEntities(), "Entity update not deferred!");
+        assertTrue(removed.isEmpty(), "Entity update not deferred!");
+        this.world.endUpdate();
+        assertEquals(List.of(pea.get()), this.world.getEntities(), "Entity update not applied!");
+        assertEquals(List.of(nut.get()), removed, "Entity remove not notified!");
+    }
+
+    @Test
+    @DisplayName("Entities parallel test")
+    public void testEntitiesParallel() {
+        final int count = EntityStore.PARALLEL_THRESHOLD * 4;
+        for (int i = 0; i < count; i++) {
+            final Optional<Entity> e = this.world.getEntityFactory().createEntity(EntityType.COIN);
+            if (e.isEmpty()) {
+                fail("Cannot create entity!");
+            }
+            e.get().setPos(new Vector2d(i * Block.SIZE, 0));
+            this.world.addEntity(e.get());
+        }
+        // Test every entity visited once
+        final Set<Entity> visited = ConcurrentHashMap.newKeySet();
+        final AtomicInteger visits = new AtomicInteger();
+        this.world.beginUpdate();
+        this.world.forEachEntityParallel(e -> {
+            visited.add(e);
+            visits.incrementAndGet();
+        });
+        this.world.endUpdate();
+        assertEquals(count, visits.get(), "Parallel entities not visited once!");
+        assertEquals(new HashSet<>(this.world.getEntities()), visited, "Parallel entities not visited!");
+        // Test store locked
+        final Entity first = this.world.getEntities().get(0);
+        assertThrows(IllegalStateException.class,
+                () -> this.world.forEachEntityParallel(e -> this.world.removeEntity(first)), "Parallel store not locked!");
+        this.world.removeEntity(first);
+        assertEquals(count - 1, this.world.getEntities().size(), "Store not unlocked!");
+    }
+
     @Test
     @DisplayName("Blocks test")
     public void testBlocks() {
@@ -59,7 +158,8 @@ public class GameWorldTest {
         if (b.isEmpty()) {
             fail("Cannot create block!");
         }
-        b.get().setPos(new Vector2d(0, 0));
+        // shared blocks have no position
+        assertThrows(UnsupportedOperationException.class, () -> b.get().setPos(new Vector2d(0, 0)));
         this.world.setBlock(0, 0, b.get());
         // Test get
         assertEquals(b.get(), this.world.getBlock(0, 0), "Block get not working!");
@@ -70,6 +170,212 @@ public class GameWorldTest {
         final Iterator<Block> i = this.world.iterator();
         assertEquals(b.get(), i.next(), "Block iterator not working!");
         assertNull(i.next(), "Block iterator not working!");
+        // Test shared blocks
+        final Optional<Block> shared = this.world.getBlockFactory().createBlock(BlockType.DIRT);
+        final Optional<Block> portal = this.world.getBlockFactory().createBlock(BlockType.PORTAL);
+        if (shared.isEmpty() || portal.isEmpty()) {
+            fail("Cannot create block!");
+        }
+        this.world.setBlock(1, 0, shared.get());
+        this.world.setBlock(2, 0, portal.get());
+        assertSame(this.world.getBlock(0, 0), this.world.getBlock(1, 0), "Block not shared!");
+        assertSame(portal.get(), this.world.getBlock(2, 0), "Interactive block get not working!");
+        assertTrue(this.world.isSolid(1, 0), "Block solid not working!");
+        assertFalse(this.world.isSolid(2, 0), "Block solid not working!");
+        assertFalse(this.world.isSolid(3, 0), "Block solid not working!");
+        this.world.setBlock(1, 0, null);
+        assertNull(this.world.getBlock(1, 0), "Block set not working!");
+        assertFalse(this.world.isSolid(1, 0), "Block solid not working!");
+    }
+
+
+    @Test
+    @DisplayName("Tile sweep test")
+    public void testTileSweep() {
+        final Optional<Block> b = this.world.getBlockFactory().createBlock(BlockType.DIRT);
+        if (b.isEmpty()) {
+            fail("Cannot create block!");
+        }
+        this.world.setBlock(10, 10, b.get());
+        final TileSweep sweep = new TileSweep();
+        // Test fall on the block
+        sweep.sweep(this.world, 10 * Block.SIZE, 8 * Block.SIZE, Block.SIZE, Block.SIZE, 0, 2 * Block.SIZE);
+        assertTrue(sweep.isHit() && sweep.isGround(), "Tile sweep ground not working!");
+        assertEquals(0.5, sweep.getTime(), "Tile sweep time not working!");
+        // Test pass through the block in one move
+        sweep.sweep(this.world, 8 * Block.SIZE, 10 * Block.SIZE, Block.SIZE, Block.SIZE, 4 * Block.SIZE, 0);
+        assertTrue(sweep.isHit() && sweep.isWall(), "Tile sweep wall not working!");
+        assertEquals(-1, sweep.getNormalX(), "Tile sweep normal not working!");
+        // Test slide on the block
+        sweep.sweep(this.world, 9 * Block.SIZE, 9 * Block.SIZE, Block.SIZE, Block.SIZE, 2 * Block.SIZE, 0);
+        assertFalse(sweep.isHit(), "Tile sweep touch is a hit!");
+        // Test world border
+        sweep.sweep(this.world, Block.SIZE, 0, Block.SIZE, Block.SIZE, 0, -1);
+        assertTrue(sweep.isCeiling(), "Tile sweep world border not working!");
+        // Test walk a long path
+        sweep.sweep(this.world, 10 * Block.SIZE + 1, 0, Block.SIZE / 2, Block.SIZE, 0, WORLD_SIZE * Block.SIZE);
+        assertTrue(sweep.isGround(), "Tile sweep long path not working!");
+        assertEquals(9d * Block.SIZE, sweep.getY(), "Tile sweep contact not working!");
     }
 
+    @Test
+    @DisplayName("Gravity tunnelling test")
+    public void testGravityTunnelling() {
+        final int maxGravity = 2 * Block.SIZE;
+        this.world.setBlock(10, 90, this.world.getBlockFactory().createBlock(BlockType.DIRT).orElseThrow());
+        final SimpleLivingEntity entity = new SimpleLivingEntity(EntityType.SHOOTING_PEA, this.world) {
+            @Override
+            public GameObjectView getView() {
+                return null;
+            }
+
+            @Override
+            protected double getMaxGravity() {
+                return maxGravity;
+            }
+
+            @Override
+            public void tick(final long ticks) {
+                super.tick(ticks);
+                this.move();
+            }
+        };
+        entity.setPos(new Vector2d(10 * Block.SIZE, 0));
+        // Test fall faster than a block a tick on a single block
+        double speed = 0;
+        for (int i = 0; i < WORLD_SIZE; i++) {
+            speed = Math.max(speed, entity.getVel().getDoubleY());
+            entity.tick(i);
+        }
+        assertEquals((double) maxGravity, speed, "Gravity not raised!");
+        assertEquals(90d * Block.SIZE - entity.getHeight(), entity.getPos().getDoubleY(), "Entity tunnelled through the block!");
+        assertFalse(entity.isDead(), "Entity fell out of the world!");
+        assertTrue(entity.jump(), "Entity not on the ground!");
+    }
+
+    @Test
+    @DisplayName("Body store test")
+    public void testBodyStore() {
+        final BodyStore bodies = this.world.getBodies();
+        final int count = bodies.getCount();
+        final Probe first = new Probe(this.world);
+        final Probe second = new Probe(this.world);
+        assertEquals(count + 2, bodies.getCount(), "Body store allocate not working!");
+        // Test the entity is a view of the arrays
+        first.setPos(new Vector2d(10 * Block.SIZE, Block.SIZE));
+        assertEquals(10d * Block.SIZE, bodies.getPosition(first.getBodyId()).getDoubleX(), "Body store position not working!");
+        first.getVel().set(3, 0);
+        assertEquals(3d, bodies.getVelocity(first.getBodyId()).getDoubleX(), "Body store velocity not working!");
+        // Test a batched move gives the same result of an immediate one
+        second.setPos(new Vector2d(30 * Block.SIZE, Block.SIZE));
+        second.getVel().set(3, 0);
+        first.tick(0);
+        bodies.beginUpdate();
+        second.tick(0);
+        assertEquals(30d * Block.SIZE, second.getPos().getDoubleX(), "Body store batch not queued!");
+        bodies.endUpdate();
+        assertEquals(first.getPos().getDoubleX() + 20 * Block.SIZE, second.getPos().getDoubleX(), "Body store batch not working!");
+        assertEquals(first.getPos().getDoubleY(), second.getPos().getDoubleY(), "Body store batch not working!");
+        assertEquals(first.getVel().getDoubleY(), second.getVel().getDoubleY(), "Body store gravity not working!");
+        // Test a freed body keeps its values and its id is reused after the update
+        final int id = second.getBodyId();
+        final double y = second.getPos().getDoubleY();
+        bodies.beginUpdate();
+        second.remove();
+        assertEquals(count + 2, bodies.getCount(), "Body store free not queued!");
+        bodies.endUpdate();
+        assertEquals(count + 1, bodies.getCount(), "Body store free not working!");
+        final Probe third = new Probe(this.world);
+        assertEquals(id, third.getBodyId(), "Body store id not reused!");
+        third.setPos(new Vector2d(0, 0));
+        assertEquals(y, second.getPos().getDoubleY(), "Body store detach not working!");
+        assertEquals(30d * Block.SIZE + 3, second.getPos().getDoubleX(), "Body store detach not working!");
+    }
+
+    /**
+     * Living entity that moves every tick and exposes its body.
+     */
+    private static final class Probe extends SimpleLivingEntity {
+
+        private Probe(final World world) {
+            super(EntityType.SHOOTING_PEA, world);
+        }
+
+        @Override
+        public GameObjectView getView() {
+            return null;
+        }
+
+        @Override
+        public void tick(final long ticks) {
+            super.tick(ticks);
+            this.move();
+        }
+
+        private int getBodyId() {
+            return this.getBody();
+        }
+    }
+
+    @Test
+    @DisplayName("Chunk streaming test")
+    public void testChunkStreaming() {
+        final int chunks = 4 * GameWorld.MAX_LOADED_CHUNKS;
+        this.world.setWidth(chunks * TileGrid.CHUNK_WIDTH);
+        this.world.clear();
+        final List<Integer> loaded = new ArrayList<>();
+        final List<Boolean> published = new ArrayList<>();
+        this.world.setChunkLoader(chunk -> {
+            loaded.add(chunk);
+            this.world.setBlock(chunk * TileGrid.CHUNK_WIDTH, 0,
+                    this.world.getBlockFactory().createBlock(BlockType.DIRT).orElseThrow());
+            published.add(this.world.isSolid(chunk * TileGrid.CHUNK_WIDTH, 0));
+        });
+        final int[] events = new int[GameEvent.values().length];
+        for (final GameEvent event : GameEvent.values()) {
+            this.world.getEventBus().register(event, (entity, value) -> events[event.ordinal()]++);
+        }
+        final Optional<Entity> e = this.world.getEntityFactory().createEntity(EntityType.SHOOTING_PEA);
+        if (e.isEmpty()) {
+            fail("Cannot create entity!");
+        }
+        final int far = chunks - 1;
+        e.get().setPos(new Vector2d(far * TileGrid.CHUNK_WIDTH * Block.SIZE, 0));
+        // Test spawn bound to the chunk
+        this.world.addEntity(e.get());
+        assertTrue(this.world.getEntities().isEmpty(), "Entity spawned in an unloaded chunk!");
+        // Test load around the position
+        this.world.streamChunks(0);
+        assertEquals(List.of(0, 1, 2, 3), loaded, "Chunk load not working!");
+        assertTrue(this.world.isSolid(0, 0), "Chunk blocks not loaded!");
+        assertFalse(this.world.isSolid(4 * TileGrid.CHUNK_WIDTH, 0), "Chunk loaded too far!");
+        assertFalse(published.contains(true), "Chunk seen before being completely loaded!");
+        // Test revisions of the chunks
+        final int revision = this.world.getChunkRevision(0);
+        final int otherRevision = this.world.getChunkRevision(1);
+        this.world.setBlock(1, 0, this.world.getBlockFactory().createBlock(BlockType.DIRT).orElseThrow());
+        assertNotEquals(revision, this.world.getChunkRevision(0), "Chunk revision not changed!");
+        assertEquals(otherRevision, this.world.getChunkRevision(1), "Other chunk revision changed!");
+        // Test load on approach and eviction
+        for (int i = 0; i < chunks; i++) {
+            this.world.streamChunks(i * TileGrid.CHUNK_WIDTH * Block.SIZE);
+        }
+        assertEquals(chunks, loaded.size(), "Chunk loaded more than once!");
+        assertNull(this.world.getBlock(0, 0), "Chunk not evicted!");
+        assertTrue(this.world.isSolid(far * TileGrid.CHUNK_WIDTH, 0), "Chunk blocks not loaded!");
+        assertEquals(List.of(e.get()), this.world.getEntities(), "Entity not spawned with its chunk!");
+        assertEquals(1, events[GameEvent.ENTITY_SPAWNED.ordinal()], "Entity spawn not posted!");
+        // Test entities leave with their chunk
+        for (int i = 0; i < GameWorld.MAX_LOADED_CHUNKS; i++) {
+            this.world.streamChunks(i * TileGrid.CHUNK_WIDTH * Block.SIZE);
+        }
+        assertTrue(this.world.getEntities().isEmpty(), "Entity not taken out with its chunk!");
+        assertFalse(e.get().isRemoved(), "Entity taken out is removed!");
+        assertEquals(1, events[GameEvent.ENTITY_PARKED.ordinal()], "Entity park not posted!");
+        assertEquals(0, events[GameEvent.ENTITY_REMOVED.ordinal()], "Entity taken out posted as removed!");
+        this.world.streamChunks(far * TileGrid.CHUNK_WIDTH * Block.SIZE);
+        assertEquals(List.of(e.get()), this.world.getEntities(), "Entity not spawned again!");
+        assertEquals(1, events[GameEvent.ENTITY_UNPARKED.ordinal()], "Entity unpark not posted!");
+        assertEquals(1, events[GameEvent.ENTITY_SPAWNED.ordinal()], "Entity back posted as spawned!");
+    }
 }
@@ -0,0 +1,287 @@
+package it.unibo.cicciopier;
+
+import it.unibo.cicciopier.controller.GameState;
+import it.unibo.cicciopier.controller.HeadlessEngine;
+import it.unibo.cicciopier.controller.Input;
+import it.unibo.cicciopier.controller.Replay;
+import it.unibo.cicciopier.model.EntityStore;
+import it.unibo.cicciopier.model.GameWorld;
+import it.unibo.cicciopier.model.Level;
+import it.unibo.cicciopier.model.TileGrid;
+import it.unibo.cicciopier.model.blocks.base.Block;
+import it.unibo.cicciopier.model.entities.Player;
+import it.unibo.cicciopier.model.entities.base.Activation;
+import it.unibo.cicciopier.model.entities.base.Entity;
+import it.unibo.cicciopier.model.entities.base.EntityType;
+import it.unibo.cicciopier.utility.Vector2d;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessEngineTest {
+    private static final int TICKS = 600;
+    private static final long SEED = 42;
+    private static final int ENEMIES_DISTANCE = 8;
+    // the third level, streamed
+    private static final Level STREAMING_LEVEL = new Level(null, "level-test-streaming.tmx",
+            "level_test_streaming", "Streaming test");
+
+    @Test
+    @DisplayName("Headless run test")
+    public void testRun() {
+        final HeadlessEngine engine = new HeadlessEngine(Level.FIRST_LEVEL);
+        try {
+            engine.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        assertEquals(GameState.RUNNING, engine.getState(), "Level not started!");
+        final double startX = engine.getWorld().getPlayer().getPos().getDoubleX();
+        // Test run
+        engine.getInput().setPressed(Input.RIGHT);
+        final GameState state = engine.run(TICKS);
+        assertEquals(engine.getState(), state, "Run state is wrong!");
+        assertTrue(engine.getTicks() == TICKS || state != GameState.RUNNING, "Run stopped too early!");
+        assertTrue(engine.getWorld().getPlayer().getPos().getDoubleX() > startX, "Player not moved!");
+        // Test restart
+        engine.restart();
+        assertEquals(0, engine.getTicks(), "Restart not working!");
+        assertEquals(GameState.RUNNING, engine.getState(), "Restart not working!");
+    }
+
+    @Test
+    @DisplayName("Replay test")
+    public void testReplay() {
+        final HeadlessEngine engine = new HeadlessEngine(Level.BOSS_LEVEL);
+        try {
+            engine.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        // Test record
+        engine.record(SEED);
+        for (int i = 0; i < TICKS && engine.getState() == GameState.RUNNING; i++) {
+            if (i % 40 == 0) {
+                engine.getInput().setPressed(i % 80 == 0 ? Input.RIGHT : Input.LEFT);
+                engine.getInput().setUnpressed(i % 80 == 0 ? Input.LEFT : Input.RIGHT);
+            }
+            if (i % 25 == 0) {
+                engine.getInput().setPressed(Input.JUMP);
+            } else if (i % 25 == 5) {
+                engine.getInput().setUnpressed(Input.JUMP);
+            }
+            engine.run(1);
+        }
+        final Optional<Replay> replay = engine.getReplay();
+        if (replay.isEmpty()) {
+            fail("Game not recorded!");
+        }
+        assertEquals(engine.getTicks(), replay.get().getTicks(), "Record not working!");
+        assertTrue(replay.get().getRuns() < replay.get().getTicks(), "Record not run-length encoded!");
+        // Test write and read
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Replay read;
+        try {
+            replay.get().write(out);
+            read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        assertEquals(replay.get().getTicks(), read.getTicks(), "Replay read not working!");
+        assertEquals(replay.get().getHash(), read.getHash(), "Replay read not working!");
+        // Test replay
+        final HeadlessEngine player = new HeadlessEngine(Level.BOSS_LEVEL);
+        try {
+            player.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        assertTrue(player.replay(read), "Replay diverged!");
+        assertThrows(IllegalArgumentException.class,
+                () -> new HeadlessEngine(Level.FIRST_LEVEL).replay(read), "Replay of another level!");
+    }
+
+    @Test
+    @DisplayName("Parallel update test")
+    public void testParallel() {
+        final HeadlessEngine parallel = new HeadlessEngine(Level.SECOND_LEVEL);
+        final HeadlessEngine sequential = new HeadlessEngine(Level.SECOND_LEVEL);
+        try {
+            parallel.load();
+            sequential.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        parallel.setParallel(true);
+        sequential.setParallel(false);
+        // Test same game in parallel and in sequence, with enough enemies to think in parallel
+        for (final HeadlessEngine engine : new HeadlessEngine[]{parallel, sequential}) {
+            engine.record(SEED);
+            this.spawnEnemies(engine, EntityStore.PARALLEL_THRESHOLD + 1);
+            engine.run(1);
+            assertTrue(engine.getWorld().getEntities().size() > EntityStore.PARALLEL_THRESHOLD,
+                    "Not enough entities to think in parallel!");
+            engine.getInput().setPressed(Input.RIGHT);
+            engine.getInput().setPressed(Input.ATTACK);
+            engine.run(TICKS);
+        }
+        final Optional<Replay> parallelReplay = parallel.getReplay();
+        final Optional<Replay> sequentialReplay = sequential.getReplay();
+        if (parallelReplay.isEmpty() || sequentialReplay.isEmpty()) {
+            fail("Game not recorded!");
+        }
+        assertEquals(sequentialReplay.get().getTicks(), parallelReplay.get().getTicks(), "Parallel update diverged!");
+        assertEquals(sequentialReplay.get().getHash(), parallelReplay.get().getHash(), "Parallel update diverged!");
+    }
+
+    /**
+     * Spawn path enemies behind the player, in the same places for the same engine.
+     */
+    private void spawnEnemies(final HeadlessEngine engine, final int count) {
+        final Vector2d start = engine.getWorld().getPlayer().getPos();
+        for (int i = 0; i < count; i++) {
+            final Optional<Entity> e = engine.getWorld().getEntityFactory().createEntity(EntityType.SHOOTING_PEA);
+            if (e.isEmpty()) {
+                fail("Cannot create entity!");
+            }
+            e.get().setPos(start.addVector(new Vector2d(-(ENEMIES_DISTANCE + i % ENEMIES_DISTANCE) * Block.SIZE, -Block.SIZE * 4)));
+            e.get().load();
+            engine.getWorld().addEntity(e.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming level test")
+    public void testStreaming() {
+        final HeadlessEngine engine = new HeadlessEngine(STREAMING_LEVEL);
+        try {
+            engine.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        final int chunkSize = TileGrid.CHUNK_WIDTH * Block.SIZE;
+        final int playerChunk = (int) (engine.getWorld().getPlayer().getPos().getDoubleX() / chunkSize);
+        // Test only the entities of the chunks around the player are created
+        final List<Entity> entities = engine.getWorld().getEntities();
+        assertFalse(entities.isEmpty(), "No entity spawned!");
+        for (final Entity e : entities) {
+            assertTrue(Math.abs((int) (e.getPos().getDoubleX() / chunkSize) - playerChunk) <= GameWorld.STREAM_RADIUS,
+                    "Entity spawned in a chunk not loaded!");
+        }
+        // Test the chunks far from the player are empty
+        final int farColumn = (playerChunk + GameWorld.STREAM_RADIUS + 1) * TileGrid.CHUNK_WIDTH;
+        for (int y = 0; y < engine.getWorld().getHeight(); y++) {
+            assertNull(engine.getWorld().getBlock(farColumn, y), "Chunk loaded too far!");
+        }
+        // Test the loaded chunks have the same tiles of the level loaded at once
+        final HeadlessEngine whole = new HeadlessEngine(Level.THIRD_LEVEL);
+        try {
+            whole.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        final int firstColumn = Math.max(0, playerChunk - GameWorld.STREAM_RADIUS) * TileGrid.CHUNK_WIDTH;
+        final int lastColumn = Math.min(whole.getWorld().getWidth(),
+                (playerChunk + GameWorld.STREAM_RADIUS + 1) * TileGrid.CHUNK_WIDTH);
+        for (int x = firstColumn; x < lastColumn; x++) {
+            for (int y = 0; y < whole.getWorld().getHeight(); y++) {
+                assertNotNull(engine.getWorld().getBlock(x, y), "Chunk not loaded!");
+                assertEquals(whole.getWorld().getBlock(x, y).getType(), engine.getWorld().getBlock(x, y).getType(),
+                        "Chunk loaded wrong!");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming activation test")
+    public void testStreamingActivation() {
+        final HeadlessEngine engine = new HeadlessEngine(STREAMING_LEVEL);
+        try {
+            engine.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        final Player player = engine.getWorld().getPlayer();
+        final int chunkSize = TileGrid.CHUNK_WIDTH * Block.SIZE;
+        final int lastChunk = (int) (player.getPos().getDoubleX() / chunkSize) + GameWorld.STREAM_RADIUS;
+        final Optional<Entity> edge = engine.getWorld().getEntityFactory().createEntity(EntityType.SHOOTING_PEA);
+        if (edge.isEmpty()) {
+            fail("Cannot create entity!");
+        }
+        edge.get().setPos(new Vector2d(lastChunk * chunkSize, 0));
+        edge.get().load();
+        engine.getWorld().addEntity(edge.get());
+        final double distance = Math.abs(edge.get().getPos().getDoubleX() - player.getPos().getDoubleX());
+        assertNotEquals(Activation.DORMANT, edge.get().getType().getActivation(distance), "Entity too far!");
+        engine.run(1);
+        // Test entities next to a chunk not loaded sleep instead of falling through its tiles
+        assertEquals(Activation.DORMANT, edge.get().getActivation(), "Entity next to a chunk not loaded awake!");
+        assertEquals(0d, edge.get().getPos().getDoubleY(), "Entity next to a chunk not loaded moved!");
+        for (final Entity e : engine.getWorld().getEntities()) {
+            if (!engine.getWorld().isAreaLoaded(e.getPos().getDoubleX(), e.getPos().getDoubleX() + e.getWidth())) {
+                assertEquals(Activation.DORMANT, e.getActivation(), "Entity next to a chunk not loaded awake!");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Activation test")
+    public void testActivation() {
+        final HeadlessEngine engine = new HeadlessEngine(Level.FIRST_LEVEL);
+        try {
+            engine.load();
+        } catch (Exception e) {
+            fail(e);
+        }
+        final Player player = engine.getWorld().getPlayer();
+        final Optional<Entity> near = engine.getWorld().getEntityFactory().createEntity(EntityType.PEA);
+        final Optional<Entity> visible = engine.getWorld().getEntityFactory().createEntity(EntityType.PEA);
+        final Optional<Entity> far = engine.getWorld().getEntityFactory().createEntity(EntityType.PEA);
+        if (near.isEmpty() || visible.isEmpty() || far.isEmpty()) {
+            fail("Cannot create entity!");
+        }
+        final double center = player.getPos().getDoubleX() + player.getWidth() / 2d;
+        final double viewLeft = Activation.getViewLeft(center, engine.getWorld().getWidth() * Block.SIZE);
+        final double viewRight = viewLeft + Activation.VIEW_WIDTH * Block.SIZE;
+        // the level starts at its left border, so the view isn't centered on the player
+        assertTrue(viewRight - center > Activation.AWAKE_RANGE * Block.SIZE, "View centered on the player!");
+        near.get().setPos(player.getPos().addVector(new Vector2d(Block.SIZE, -Block.SIZE * 4)));
+        visible.get().setPos(new Vector2d(viewRight - Block.SIZE, player.getPos().getDoubleY() - Block.SIZE * 4));
+        far.get().setPos(new Vector2d(viewRight + (Activation.VIEW_MARGIN + 1) * Block.SIZE,
+                player.getPos().getDoubleY() - Block.SIZE * 4));
+        engine.getWorld().addEntity(near.get());
+        engine.getWorld().addEntity(visible.get());
+        engine.getWorld().addEntity(far.get());
+        engine.run(1);
+        // Test activation by distance, from the view for the culled entities
+        int dormant = 0;
+        for (final Entity e : engine.getWorld().getEntities()) {
+            final double minX = e.getPos().getDoubleX();
+            final double distance = e.getType().isCulled()
+                    ? Activation.getViewDistance(minX, minX + e.getWidth(), viewLeft)
+                    : Math.abs(minX + e.getWidth() / 2d - center);
+            assertEquals(e.getType().getActivation(distance), e.getActivation(), "Activation wrong!");
+            if (e.getActivation() == Activation.DORMANT) {
+                dormant++;
+            }
+        }
+        assertTrue(dormant > 0, "No entity dormant!");
+        assertEquals(Activation.DORMANT, EntityType.SHOOTING_PEA.getActivation(Activation.WARM_RANGE * Block.SIZE + 1),
+                "Activation wrong!");
+        assertEquals(Activation.AWAKE, EntityType.BROCCOLI.getActivation(Activation.WARM_RANGE * Block.SIZE + 1),
+                "Activation wrong!");
+        // Test projectiles culled only out of the view
+        assertFalse(near.get().isRemoved(), "Projectile near culled!");
+        assertFalse(visible.get().isRemoved(), "Projectile in the view culled!");
+        assertTrue(far.get().isRemoved(), "Projectile far not culled!");
+    }
+
+}
@@ -8,6 +8,7 @@ import it.unibo.cicciopier.model.entities.base.EntityType;
 import it.unibo.cicciopier.model.entities.enemies.ShootingPea;
 import it.unibo.cicciopier.model.entities.items.Burger;
 import it.unibo.cicciopier.model.entities.items.Coin;
+import it.unibo.cicciopier.model.events.GameEvent;
 import it.unibo.cicciopier.utility.Vector2d;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -69,6 +70,7 @@ public class PlayerTest {
         int ticks = 0;
         player.tick(ticks);
         burger.tick(ticks);
+        this.world.checkCollisions(ticks);
         assertTrue(player.getStamina() > 0, "failed to increase stamina");
     }
 
@@ -83,8 +85,10 @@ public class PlayerTest {
         }
         final Coin coin = (Coin) e.get();
         coin.setPos(new Vector2d(0, 20));
+        world.addEntity(coin);
         player.tick(0);
         coin.tick(0);
+        world.checkCollisions(0);
         assertEquals(1, player.getCoin(), "Coin number does not match");
     }
 
@@ -99,8 +103,10 @@ public class PlayerTest {
         }
         final Coin coin = (Coin) e.get();
         coin.setPos(new Vector2d(0, 20));
+        world.addEntity(coin);
         player.tick(0);
         coin.tick(0);
+        world.checkCollisions(0);
         assertTrue(player.getScore() != 0, "Score was not updated");
     }
 
@@ -123,4 +129,25 @@ public class PlayerTest {
         shootingPea.die();
         assertTrue(player.getHp() > 1, "failed to heal player");
     }
+
+    @Test
+    @DisplayName("Player events test")
+    public void testEvents() {
+        final Player player = this.world.getPlayer();
+        final int[] events = new int[GameEvent.values().length];
+        final int[] score = new int[1];
+        for (final GameEvent event : GameEvent.values()) {
+            this.world.getEventBus().register(event, (entity, value) -> events[event.ordinal()]++);
+        }
+        this.world.getEventBus().register(GameEvent.SCORE_CHANGED, (entity, value) -> score[0] = value);
+        player.addScore(10);
+        assertEquals(1, events[GameEvent.SCORE_CHANGED.ordinal()], "Score change not posted");
+        assertEquals(10, score[0], "Wrong score posted");
+        player.damage(player.getMaxHp());
+        assertEquals(1, events[GameEvent.PLAYER_DAMAGED.ordinal()], "Damage not posted");
+        assertEquals(1, events[GameEvent.ENTITY_DIED.ordinal()], "Death not posted");
+        player.win();
+        player.win();
+        assertEquals(1, events[GameEvent.LEVEL_WON.ordinal()], "Win not posted once");
+    }
 }
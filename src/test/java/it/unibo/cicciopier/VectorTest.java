@@ -0,0 +1,99 @@
+package it.unibo.cicciopier;
+
+import it.unibo.cicciopier.utility.Vector2d;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VectorTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    @DisplayName("Test the operations that store into a vector")
+    public void testInto() {
+        final Vector2d a = new Vector2d(1.25, -2.5);
+        final Vector2d b = new Vector2d(0.5, 4.75);
+        final Vector2d result = new Vector2d();
+        // add and sub fill the given vector and return it
+        assertSame(result, a.addInto(b, result), "addInto not returning the result!");
+        assertEquals(1.75, result.getDoubleX(), DELTA, "addInto x not working!");
+        assertEquals(2.25, result.getDoubleY(), DELTA, "addInto y not working!");
+        assertSame(result, a.subInto(b, result), "subInto not returning the result!");
+        assertEquals(0.75, result.getDoubleX(), DELTA, "subInto x not working!");
+        assertEquals(-7.25, result.getDoubleY(), DELTA, "subInto y not working!");
+        // the operands are untouched, and can be the result too
+        assertEquals(1.25, a.getDoubleX(), DELTA, "addInto changed its operand!");
+        assertEquals(4.75, b.getDoubleY(), DELTA, "subInto changed its operand!");
+        a.addInto(b, a);
+        assertEquals(1.75, a.getDoubleX(), DELTA, "addInto into an operand not working!");
+        assertEquals(2.25, a.getDoubleY(), DELTA, "addInto into an operand not working!");
+        b.subInto(b, b);
+        assertEquals(0d, b.getMagnitudeSq(), DELTA, "subInto into an operand not working!");
+    }
+
+    @Test
+    @DisplayName("Test direction and distance")
+    public void testDirection() {
+        final Vector2d from = new Vector2d(1, 2);
+        final Vector2d to = new Vector2d(4, 6);
+        final Vector2d dir = new Vector2d();
+        assertSame(dir, dir.setDirection(from, to), "setDirection not returning this!");
+        assertEquals(3d, dir.getDoubleX(), DELTA, "setDirection x not working!");
+        assertEquals(4d, dir.getDoubleY(), DELTA, "setDirection y not working!");
+        assertEquals(25d, from.distanceSq(to), DELTA, "distanceSq not working!");
+        assertEquals(25d, to.distanceSq(from), DELTA, "distanceSq not symmetric!");
+        assertEquals(5d, from.euclidDistance(to), DELTA, "euclidDistance not working!");
+        // same values of the allocating version
+        final Vector2d old = from.directionVector(to);
+        assertEquals(old.getDoubleX(), dir.getDoubleX(), DELTA, "setDirection differs from directionVector!");
+        assertEquals(old.getDoubleY(), dir.getDoubleY(), DELTA, "setDirection differs from directionVector!");
+    }
+
+    @Test
+    @DisplayName("Test the precision of the operations")
+    public void testPrecision() {
+        final Vector2d a = new Vector2d(10, 20);
+        final Vector2d b = new Vector2d(0.4, 0.6);
+        // the allocating operations round the coordinates of the second vector
+        assertEquals(10d, a.addVector(b).getDoubleX(), DELTA, "addVector not rounding!");
+        assertEquals(21d, a.addVector(b).getDoubleY(), DELTA, "addVector not rounding!");
+        assertEquals(10d, a.subVector(b).getDoubleX(), DELTA, "subVector not rounding!");
+        assertEquals(19d, a.subVector(b).getDoubleY(), DELTA, "subVector not rounding!");
+        assertEquals(Math.sqrt(10 * 10 + 19 * 19), a.euclidDistance(b), DELTA, "euclidDistance not rounding!");
+        // the ones storing into a vector don't
+        final Vector2d result = new Vector2d();
+        a.addInto(b, result);
+        assertEquals(10.4, result.getDoubleX(), DELTA, "addInto is rounding!");
+        assertEquals(20.6, result.getDoubleY(), DELTA, "addInto is rounding!");
+        a.subInto(b, result);
+        assertEquals(9.6, result.getDoubleX(), DELTA, "subInto is rounding!");
+        assertEquals(19.4, result.getDoubleY(), DELTA, "subInto is rounding!");
+        result.setDirection(a, b);
+        assertEquals(-9.6, result.getDoubleX(), DELTA, "setDirection is rounding!");
+        assertEquals(-19.4, result.getDoubleY(), DELTA, "setDirection is rounding!");
+        assertEquals(9.6 * 9.6 + 19.4 * 19.4, a.distanceSq(b), DELTA, "distanceSq is rounding!");
+    }
+
+    @Test
+    @DisplayName("Test the scratch vectors")
+    public void testScratch() throws InterruptedException {
+        // the same slot gives the same vector, different slots different ones
+        assertSame(Vector2d.scratch(0), Vector2d.scratch(0), "Scratch slot not reused!");
+        for (int i = 0; i < 4; i++) {
+            for (int j = i + 1; j < 4; j++) {
+                assertNotSame(Vector2d.scratch(i), Vector2d.scratch(j), "Scratch slots shared!");
+            }
+        }
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Vector2d.scratch(4));
+        // every thread has its own vectors
+        final AtomicReference<Vector2d> other = new AtomicReference<>();
+        final Thread thread = new Thread(() -> other.set(Vector2d.scratch(0)));
+        thread.start();
+        thread.join();
+        assertNotNull(other.get(), "Scratch not available on other threads!");
+        assertNotSame(Vector2d.scratch(0), other.get(), "Scratch shared between threads!");
+    }
+}